@@ -9,7 +9,8 @@ TEMPLATE_NAME="${TEMPLATE_NAME:-posts-template-v1}"
 ES="$ES_URL"
 SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
 ROOT_DIR="$(cd "$SCRIPT_DIR/.." && pwd)"
-TPL="$ROOT_DIR/posts-template.json"
+# 애플리케이션(PostReindexService)과 같은 템플릿을 씀
+TPL="$ROOT_DIR/../../src/main/resources/elasticsearch/posts-template.json"
 
 # curl opts
 CURL_OPTS=(--fail-with-body -sS)
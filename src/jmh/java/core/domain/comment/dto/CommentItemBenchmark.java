@@ -0,0 +1,59 @@
+package core.domain.comment.dto;
+
+import core.domain.board.entity.Board;
+import core.domain.comment.entity.Comment;
+import core.domain.post.dto.PostWriteRequest;
+import core.domain.post.entity.Post;
+import core.domain.user.entity.User;
+import core.global.enums.BoardCategory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 댓글 목록 한 페이지 = CommentItem.from 을 페이지 크기만큼 호출.
+ */
+@State(Scope.Benchmark)
+public class CommentItemBenchmark {
+
+    private Comment named;
+    private Comment anonymous;
+    private Comment deleted;
+
+    @Setup
+    public void setUp() {
+        Board board = new Board(BoardCategory.QNA);
+        User author = User.builder().firstName("Min").lastName("Kim").email("kim@example.com").build();
+        Post post = new Post(new PostWriteRequest("How do I open a bank account?", false, List.of()), author, board);
+        ReflectionTestUtils.setField(post, "id", 1L);
+
+        named = comment(post, author, false, 10L);
+        anonymous = comment(post, author, true, 11L);
+        deleted = comment(post, author, false, 12L);
+        ReflectionTestUtils.setField(deleted, "deleted", true);
+    }
+
+    @Benchmark
+    public CommentItem fromNamed() {
+        return CommentItem.from(named, true, 5L, "https://cdn.example.com/u/kim.png");
+    }
+
+    @Benchmark
+    public CommentItem fromAnonymous() {
+        return CommentItem.from(anonymous, false, 0L, "https://cdn.example.com/u/kim.png");
+    }
+
+    @Benchmark
+    public CommentItem fromDeleted() {
+        return CommentItem.from(deleted, false, 0L, null);
+    }
+
+    private static Comment comment(Post post, User author, boolean anon, long id) {
+        Comment c = Comment.createRootComment(post, author, "Bring your ARC and passport to the branch.", anon);
+        ReflectionTestUtils.setField(c, "id", id);
+        ReflectionTestUtils.setField(c, "createdAt", Instant.parse("2025-08-21T09:20:00Z"));
+        return c;
+    }
+}
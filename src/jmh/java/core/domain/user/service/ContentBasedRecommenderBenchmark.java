@@ -0,0 +1,76 @@
+package core.domain.user.service;
+
+import core.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 추천 1회 = 후보 1,000명 점수 계산 + 정렬 후 상위 풀에서 Gumbel-Top-k 추출.
+ */
+@State(Scope.Benchmark)
+public class ContentBasedRecommenderBenchmark {
+
+    private static final String[] PURPOSES = {"study", "work", "travel", "friends", "language"};
+    private static final String[] COUNTRIES = {"KR", "US", "VN", "JP", "CN", "FR", "UZ", "MN"};
+    private static final String[] LANGS = {"ko", "en", "vi", "ja", "zh", "fr", "uz", "mn", "ru", "es"};
+
+    @Param({"1000"})
+    public int candidates;
+
+    @Param({"10"})
+    public int limit;
+
+    private ContentBasedRecommender recommender;
+    private User me;
+    private int meAge;
+    private Set<String> meLangs;
+    private List<User> pool;
+    private List<ContentBasedRecommender.Scored<User>> scored;
+
+    @Setup
+    public void setUp() {
+        recommender = new ContentBasedRecommender(null, null);
+        Random r = new Random(42L);
+        me = user(r);
+        meAge = 27;
+        meLangs = recommender.csvToSet(me.getLanguage());
+
+        pool = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) pool.add(user(r));
+
+        scored = new ArrayList<>(candidates);
+        for (User u : pool) scored.add(new ContentBasedRecommender.Scored<>(u, recommender.score(me, u, meAge, meLangs)));
+        scored.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+    }
+
+    @Benchmark
+    public void scoreAll(Blackhole bh) {
+        for (User u : pool) bh.consume(recommender.score(me, u, meAge, meLangs));
+    }
+
+    @Benchmark
+    public List<User> pickGumbelTopK() {
+        return recommender.pickGumbelTopK(scored.subList(0, Math.min(limit * 2, scored.size())), limit, 0.1);
+    }
+
+    @Benchmark
+    public List<User> pickGumbelTopKFullPool() {
+        return recommender.pickGumbelTopK(scored, limit, 0.1);
+    }
+
+    private static User user(Random r) {
+        String langs = LANGS[r.nextInt(LANGS.length)] + "," + LANGS[r.nextInt(LANGS.length)];
+        String birth = String.format("%02d/%02d/%d", 1 + r.nextInt(12), 1 + r.nextInt(28), 1985 + r.nextInt(20));
+        return User.builder()
+                .purpose(PURPOSES[r.nextInt(PURPOSES.length)])
+                .country(COUNTRIES[r.nextInt(COUNTRIES.length)])
+                .language(langs)
+                .birthdate(birth)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package core.global.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+
+/**
+ * JwtTokenFilter가 인증 요청마다 수행하는 검증 + 클레임 추출.
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // HS512 최소 키 길이(64B)
+        String secret = Base64.getEncoder().encodeToString(new byte[64]);
+        provider = new JwtTokenProvider(secret, 30, 60 * 24 * 14);
+        accessToken = provider.createAccessToken(7L, "kim@example.com");
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return provider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String parseEmail() {
+        return provider.getEmailFromToken(accessToken);
+    }
+
+    @Benchmark
+    public Long parseUserId() {
+        return provider.getUserIdFromAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public String create() {
+        return provider.createAccessToken(7L, "kim@example.com");
+    }
+}
@@ -0,0 +1,44 @@
+package core.global.pagination;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 목록 API마다 커서를 한 번 decode, 한 번 encode 합니다.
+ */
+@State(Scope.Benchmark)
+public class CursorCodecBenchmark {
+
+    private Instant t;
+    private String latestCursor;
+    private String popularCursor;
+
+    @Setup
+    public void setUp() {
+        t = Instant.parse("2025-08-21T09:20:00.123Z");
+        latestCursor = CursorCodec.encodeLatest(t, 123_456L);
+        popularCursor = CursorCodec.encodePopular(3_210L, 123_456L);
+    }
+
+    @Benchmark
+    public String encodeLatest() {
+        return CursorCodec.encodeLatest(t, 123_456L);
+    }
+
+    @Benchmark
+    public String encodePopular() {
+        return CursorCodec.encodePopular(3_210L, 123_456L);
+    }
+
+    @Benchmark
+    public Map<String, Object> decodeLatest() {
+        return CursorCodec.decode(latestCursor);
+    }
+
+    @Benchmark
+    public Map<String, Object> decodePopular() {
+        return CursorCodec.decode(popularCursor);
+    }
+}
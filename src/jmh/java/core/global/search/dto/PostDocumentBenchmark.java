@@ -0,0 +1,53 @@
+package core.global.search.dto;
+
+import core.domain.board.entity.Board;
+import core.domain.post.dto.PostWriteRequest;
+import core.domain.post.entity.Post;
+import core.domain.user.entity.User;
+import core.global.enums.BoardCategory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 색인 문서 변환. 게시글 작성/수정/재색인 때마다 호출됩니다.
+ */
+@State(Scope.Benchmark)
+public class PostDocumentBenchmark {
+
+    @Param({"150", "1500"})
+    public int length;
+
+    private Post post;
+    private long createdAtMillis;
+
+    @Setup
+    public void setUp() {
+        Board board = new Board(BoardCategory.FREE_TALK);
+        ReflectionTestUtils.setField(board, "id", 6L);
+        User author = User.builder().firstName("Min").lastName("Kim").email("kim@example.com").build();
+        ReflectionTestUtils.setField(author, "id", 7L);
+
+        String content = "Looking for a weekend language exchange in Seoul, any tips? ".repeat(length / 60 + 1)
+                .substring(0, length);
+        post = new Post(new PostWriteRequest(content, false, List.of()), author, board);
+        Instant createdAt = Instant.now().minus(3, ChronoUnit.DAYS);
+        ReflectionTestUtils.setField(post, "id", 1_000L);
+        ReflectionTestUtils.setField(post, "createdAt", createdAt);
+        ReflectionTestUtils.setField(post, "checkCount", 420L);
+        createdAtMillis = createdAt.toEpochMilli();
+    }
+
+    @Benchmark
+    public PostDocument construct() {
+        return new PostDocument(post);
+    }
+
+    @Benchmark
+    public int weight() {
+        return PostDocument.weight(420L, createdAtMillis);
+    }
+}
@@ -0,0 +1,51 @@
+package core.global.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Random;
+
+/**
+ * 금칙어 검사. 게시글/댓글 작성 때마다 본문 전체를 토큰화하므로 본문 길이에 비례합니다.
+ * 실제 금칙어 목록(forbidden_words.json)을 쓰고, 금칙어가 없는 본문(정상 경로)을 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class ForbiddenWordServiceBenchmark {
+
+    private static final String[] WORDS = {
+            "안녕하세요", "한국", "생활", "비자", "질문이", "있어요", "서울", "지하철", "추천", "감사합니다",
+            "hello", "visa", "apartment", "rent", "deposit", "korean", "class", "weekend", "market", "thanks",
+            "2025", "D-2", "F-4", "ARC", "외국인등록증", "은행", "계좌", "개설", "방법", "알려주세요"
+    };
+
+    // 댓글 평균 ~150자, 게시글 평균 ~1,500자, 긴 게시글 10,000자(작성 한도)
+    @Param({"150", "1500", "10000"})
+    public int length;
+
+    private ForbiddenWordService service;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        service = new ForbiddenWordService();
+        ReflectionTestUtils.setField(service, "forbiddenWordsFile", new ClassPathResource("forbidden_words.json"));
+        service.init();
+        text = sampleText(length, 42L);
+    }
+
+    @Benchmark
+    public boolean containsForbiddenWord() {
+        return service.containsForbiddenWord(text);
+    }
+
+    static String sampleText(int length, long seed) {
+        Random r = new Random(seed);
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            sb.append(WORDS[r.nextInt(WORDS.length)]);
+            sb.append(r.nextInt(12) == 0 ? ". " : " ");
+        }
+        return sb.substring(0, length);
+    }
+}
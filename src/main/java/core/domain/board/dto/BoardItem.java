@@ -45,4 +45,9 @@ public record BoardItem(
 
         @Schema(description = "인기 점수(인기 정렬 시 커서용, 없으면 null)", nullable = true, example = "987654321")
         Long score
-) { }
\ No newline at end of file
+) {
+    public BoardItem withLiked(boolean liked) {
+        return new BoardItem(postId, contentPreview, authorName, boardCategory, createdAt, liked,
+                likeCount, commentCount, viewCount, userImageUrl, contentImageUrl, imageCount, score);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package core.domain.bookmark.dto;
+
+/**
+ * 북마크 목록 조회용 프로젝션.
+ * 게시글 본문(TEXT) 대신 preview와 작성자 필드만 읽습니다.
+ */
+public record BookmarkRow(
+        Long bookmarkId,
+        Long postId,
+        String preview,
+        Boolean anonymous,
+        Long checkCount,
+        Long authorId,
+        String authorName
+) {}
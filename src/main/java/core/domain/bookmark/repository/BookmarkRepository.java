@@ -1,10 +1,9 @@
 package core.domain.bookmark.repository;
 
+import core.domain.bookmark.dto.BookmarkRow;
 import core.domain.bookmark.entity.Bookmark;
 import core.domain.post.entity.Post;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,11 +13,21 @@ import java.util.List;
 import java.util.Optional;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
-    @EntityGraph(attributePaths = {"post", "post.author"})
-    Slice<Bookmark> findByUserEmailOrderByIdDesc(String email, Pageable pageable);
-
-    @EntityGraph(attributePaths = {"post", "post.author"})
-    Slice<Bookmark> findByUserEmailAndIdLessThanOrderByIdDesc(String email, Long id, Pageable pageable);
+    @Query("""
+            select new core.domain.bookmark.dto.BookmarkRow(
+                b.id, p.id, p.preview, p.anonymous, p.checkCount, a.id, a.name)
+            from Bookmark b
+            join b.post p
+            left join p.author a
+            where b.user.email = :email
+            and (:lastId is null or b.id < :lastId)
+            order by b.id desc
+            """)
+    List<BookmarkRow> findMyBookmarkRows(
+            @Param("email") String email,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
 
     Optional<Bookmark> findByUserEmailAndPostId(String email, Long postId);
 
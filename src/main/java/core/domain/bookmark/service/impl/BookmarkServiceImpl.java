@@ -1,6 +1,7 @@
 package core.domain.bookmark.service.impl;
 
 import core.domain.bookmark.dto.BookmarkItem;
+import core.domain.bookmark.dto.BookmarkRow;
 import core.domain.bookmark.entity.Bookmark;
 import core.domain.bookmark.repository.BookmarkRepository;
 import core.domain.bookmark.service.BookmarkService;
@@ -20,7 +21,6 @@ import core.global.pagination.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,11 +56,7 @@ public class BookmarkServiceImpl implements BookmarkService {
         if (idObj instanceof Number n) cursorId = n.longValue();
 
 
-        Slice<Bookmark> slice = (cursorId == null)
-                ? bookmarkRepository.findByUserEmailOrderByIdDesc(email, pageable)
-                : bookmarkRepository.findByUserEmailAndIdLessThanOrderByIdDesc(email, cursorId, pageable);
-
-        List<Bookmark> content = slice.getContent();
+        List<BookmarkRow> content = bookmarkRepository.findMyBookmarkRows(email, cursorId, pageable);
         boolean hasNext = content.size() > size;
         if (hasNext) {
             content = content.subList(0, size);
@@ -71,11 +67,10 @@ public class BookmarkServiceImpl implements BookmarkService {
         }
 
 
-        List<Post> posts = content.stream().map(Bookmark::getPost).toList();
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        List<Long> postIds = content.stream().map(BookmarkRow::postId).toList();
 
-        List<Long> authorIds = posts.stream()
-                .map(p -> p.getAuthor() != null ? p.getAuthor().getId() : null)
+        List<Long> authorIds = content.stream()
+                .map(BookmarkRow::authorId)
                 .filter(Objects::nonNull)
                 .distinct()
                 .toList();
@@ -103,47 +98,45 @@ public class BookmarkServiceImpl implements BookmarkService {
         ));
 
         List<BookmarkItem> items = new ArrayList<>(content.size());
-        for (Bookmark b : content) {
+        for (BookmarkRow b : content) {
             items.add(toResponse(b, likeMap, commentMap, userImageMap, postImagesMap, myLikedPostIds));
         }
 
-        Long lastId = content.get(content.size() - 1).getId();
+        Long lastId = content.get(content.size() - 1).bookmarkId();
         String nextCursor = hasNext ? CursorCodec.encodeId(lastId) : null;
 
         return new CursorPageResponse<>(items, hasNext, nextCursor);
     }
 
     private BookmarkItem toResponse(
-            Bookmark b,
+            BookmarkRow b,
             Map<Long, Long> likeMap,
             Map<Long, Long> commentMap,
             Map<Long, String> userImageMap,
             Map<Long, List<String>> postImagesMap,
             Set<Long> myLikedPostIds
     ) {
-        Post p = b.getPost();
-
-        String authorName = Boolean.TRUE.equals(p.getAnonymous())
+        String authorName = Boolean.TRUE.equals(b.anonymous())
                 ? "Anonymity"
-                : (p.getAuthor() != null ? p.getAuthor().getName() : null);
+                : b.authorName();
 
-        Long postId = p.getId();
+        Long postId = b.postId();
         Long likeCount    = likeMap.getOrDefault(postId, 0L);
         Long commentCount = commentMap.getOrDefault(postId, 0L);
-        Long checkCount   = p.getCheckCount();
+        Long checkCount   = b.checkCount();
 
-        String userImage = (p.getAuthor() == null) ? null
-                : userImageMap.get(p.getAuthor().getId());
+        String userImage = (b.authorId() == null) ? null
+                : userImageMap.get(b.authorId());
 
         List<String> postImages = postImagesMap.getOrDefault(postId, List.of());
 
         boolean isLiked = myLikedPostIds.contains(postId);
 
         return new BookmarkItem(
-                b.getId(),
+                b.bookmarkId(),
                 postId,
                 authorName,
-                safeTrim(p.getContent()),
+                b.preview(),
                 isLiked,
                 likeCount,
                 commentCount,
@@ -154,15 +147,6 @@ public class BookmarkServiceImpl implements BookmarkService {
         );
     }
 
-    private static String safeTrim(String s) {
-        if (s == null) return null;
-        int len = s.codePointCount(0, s.length());
-        if (len <= 200) return s;
-        int endIndex = s.offsetByCodePoints(0, 200);
-        return s.substring(0, endIndex);
-    }
-
-
     @Override
     @Transactional
     public void addBookmark( Long postId) {
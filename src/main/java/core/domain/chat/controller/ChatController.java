@@ -0,0 +1,94 @@
+package core.domain.chat.controller;
+
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatReadRequest;
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.domain.chat.dto.ChatSendRequest;
+import core.domain.chat.service.ChatInboxService;
+import core.domain.chat.service.ChatMessageService;
+import core.domain.chat.service.ChatUnreadService;
+import core.global.config.CustomUserDetails;
+import core.global.dto.ApiResponse;
+import core.global.pagination.CursorPageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/chat")
+@RequiredArgsConstructor
+@Tag(name = "Chat", description = "채팅방 목록/메시지 API")
+public class ChatController {
+
+    private final ChatMessageService chatMessageService;
+    private final ChatUnreadService chatUnreadService;
+    private final ChatInboxService chatInboxService;
+
+    @Operation(
+            summary = "내 채팅방 목록",
+            description = """
+            - 마지막 활동(메시지) 시각 최신순. 방 이름, 참여자, 마지막 메시지, 안 읽은 수를 함께 반환합니다.
+            - 응답의 `nextCursor`를 다음 호출의 `cursor`로 그대로 전달하세요.
+            """
+    )
+    @GetMapping("/rooms")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ChatRoomSummaryResponse>>> getRooms(
+            @Parameter(description = "다음 페이지 호출 시 전달하는 불투명 커서. 첫 페이지는 생략")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기(1~50)", example = "20") @RequestParam(defaultValue = "20") int size
+    ) {
+        CustomUserDetails me = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(chatInboxService.list(me.getUserId(), cursor, size)));
+    }
+
+    @Operation(
+            summary = "채팅방 메시지 히스토리",
+            description = """
+            - 최신 메시지부터 과거 방향으로 조회합니다.
+            - 응답의 `nextCursor`를 다음 호출의 `cursor`로 그대로 전달하세요.
+            """
+    )
+    @GetMapping("/rooms/{roomId}/messages")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ChatMessageResponse>>> getMessages(
+            @Parameter(description = "채팅방 ID", example = "12") @PathVariable Long roomId,
+            @Parameter(description = "다음 페이지 호출 시 전달하는 불투명 커서. 첫 페이지는 생략")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기(1~100)", example = "30") @RequestParam(defaultValue = "30") int size
+    ) {
+        CustomUserDetails me = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(
+                chatMessageService.getHistory(roomId, me.getUserId(), cursor, size)));
+    }
+
+    /** STOMP SEND /app/chat/rooms/{roomId}/send — 저장 후 /topic/room.{roomId}로 전달됨 */
+    @MessageMapping("/chat/rooms/{roomId}/send")
+    public void send(@DestinationVariable Long roomId, @Payload ChatSendRequest request, Principal principal) {
+        CustomUserDetails me = (CustomUserDetails) ((Authentication) principal).getPrincipal();
+        chatMessageService.send(roomId, me.getUserId(), request.content());
+    }
+
+    /** STOMP SEND /app/chat/rooms/{roomId}/read — 안 읽은 수 초기화 + 읽음 포인터 갱신 */
+    @MessageMapping("/chat/rooms/{roomId}/read")
+    public void read(@DestinationVariable Long roomId, @Payload ChatReadRequest request, Principal principal) {
+        CustomUserDetails me = (CustomUserDetails) ((Authentication) principal).getPrincipal();
+        chatMessageService.markRead(roomId, me.getUserId(), request.messageId(), request.seq());
+    }
+
+    @Operation(summary = "안 읽은 메시지 수", description = "내 채팅방별 안 읽은 메시지 수 (0인 방은 생략)")
+    @GetMapping("/unread")
+    public ResponseEntity<ApiResponse<Map<Long, Long>>> getUnreadCounts() {
+        CustomUserDetails me = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return ResponseEntity.ok(ApiResponse.success(chatUnreadService.counts(me.getUserId())));
+    }
+}
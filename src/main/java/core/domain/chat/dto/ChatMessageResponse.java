@@ -0,0 +1,30 @@
+package core.domain.chat.dto;
+
+import core.domain.chat.entity.ChatMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * 클라이언트가 그리는 필드만 담은 메시지 응답. 조회 시 이 필드만 Mongo에서 가져옵니다.
+ * (컴포넌트 이름이 ChatMessage 프로퍼티와 같아야 Mongo DTO 프로젝션이 매핑됨)
+ */
+@Schema(name = "ChatMessageResponse", description = "채팅 메시지")
+public record ChatMessageResponse(
+        @Schema(description = "메시지 ID", example = "66f1c0c2a9b3e45d8c1f2a10")
+        String id,
+        @Schema(description = "채팅방 ID", example = "12")
+        Long chatRoomId,
+        @Schema(description = "방 안 메시지 순번 (재연결 시 last-seq로 전달)", example = "1024")
+        Long seq,
+        @Schema(description = "보낸 사람 ID", example = "34")
+        Long senderId,
+        @Schema(description = "내용", example = "안녕하세요")
+        String content,
+        @Schema(description = "보낸 시각", example = "2025-08-01T12:34:56Z")
+        Instant sentAt
+) {
+    public static ChatMessageResponse from(ChatMessage m) {
+        return new ChatMessageResponse(m.getId(), m.getChatRoomId(), m.getSeq(), m.getSenderId(), m.getContent(), m.getSentAt());
+    }
+}
@@ -0,0 +1,11 @@
+package core.domain.chat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "ChatReadRequest", description = "읽음 처리 (STOMP /app/chat/rooms/{roomId}/read)")
+public record ChatReadRequest(
+        @Schema(description = "마지막으로 읽은 메시지 ID", example = "66f1c0c2a9b3e45d8c1f2a10")
+        String messageId,
+        @Schema(description = "마지막으로 읽은 메시지 seq", example = "1024")
+        Long seq
+) {}
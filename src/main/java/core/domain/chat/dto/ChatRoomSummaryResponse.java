@@ -0,0 +1,26 @@
+package core.domain.chat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(name = "ChatRoomSummaryResponse", description = "채팅방 목록 항목")
+public record ChatRoomSummaryResponse(
+        @Schema(description = "채팅방 ID", example = "12")
+        Long roomId,
+        @Schema(description = "채팅방 이름", example = "서울 생활 정보방", nullable = true)
+        String roomName,
+        @Schema(description = "그룹 채팅 여부", example = "true")
+        boolean group,
+        @Schema(description = "참여자 ID 목록")
+        List<Long> participantIds,
+        @Schema(description = "마지막 메시지 미리보기", example = "내일 봬요!", nullable = true)
+        String lastMessage,
+        @Schema(description = "마지막 메시지 보낸 사람 ID", example = "34", nullable = true)
+        Long lastSenderId,
+        @Schema(description = "마지막 활동 시각", example = "2025-08-01T12:34:56Z")
+        Instant lastActivityAt,
+        @Schema(description = "안 읽은 메시지 수", example = "3")
+        long unreadCount
+) {}
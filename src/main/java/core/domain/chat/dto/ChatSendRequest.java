@@ -0,0 +1,10 @@
+package core.domain.chat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(name = "ChatSendRequest", description = "채팅 메시지 전송 (STOMP /app/chat/rooms/{roomId}/send)")
+public record ChatSendRequest(
+        @Schema(description = "내용", example = "안녕하세요")
+        @NotBlank String content
+) {}
@@ -3,12 +3,18 @@ package core.domain.chat.entity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.Instant;
 
 @Document(collection = "chat_messages")
+// 방별 히스토리 keyset 조회 (room_id 일치 → sent_at, _id 역순)
+@CompoundIndex(name = "room_sent_id_idx", def = "{'room_id': 1, 'sent_at': -1, '_id': -1}")
+// 재연결 시 seq 구간 재전송 (seq 도입 전 메시지는 제외)
+@CompoundIndex(name = "room_seq_idx", def = "{'room_id': 1, 'seq': 1}", unique = true,
+        partialFilter = "{ 'seq': { '$exists': true } }")
 @Getter
 @NoArgsConstructor
 public class ChatMessage {
@@ -31,6 +37,10 @@ public class ChatMessage {
     @Field("read_count")
     private int readCount;
 
+    /** 방 안에서 단조 증가하는 번호 (ChatSequencer가 저장 직전에 부여) */
+    @Field("seq")
+    private Long seq;
+
     public ChatMessage(Long chatRoomId, Long senderId, String content, int readCount) {
         this.chatRoomId = chatRoomId;
         this.senderId = senderId;
@@ -44,4 +54,13 @@ public class ChatMessage {
         this.content = content;
         this.sentAt = Instant.now();
     }
-}
\ No newline at end of file
+
+    public void assignSeq(long seq) {
+        this.seq = seq;
+    }
+
+    /** 배치 저장이 중간에 실패해도 앞서 저장된 문서의 id를 알 수 있도록 저장 전에 부여 */
+    public void assignIdIfAbsent(String id) {
+        if (this.id == null) this.id = id;
+    }
+}
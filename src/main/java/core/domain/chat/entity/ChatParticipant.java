@@ -35,6 +35,9 @@ public class ChatParticipant {
     @Column(name = "last_read_message_id")
     private String lastReadMessageId;
 
+    @Column(name = "last_read_seq")
+    private Long lastReadSeq;
+
     @Enumerated(EnumType.STRING)
     private ChatParticipantStatus status;
 
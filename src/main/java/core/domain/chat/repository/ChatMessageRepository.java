@@ -1,18 +1,38 @@
 package core.domain.chat.repository;
 
+import core.domain.chat.dto.ChatMessageResponse;
 import core.domain.chat.entity.ChatMessage;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.mongodb.repository.Aggregation;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 
 public interface ChatMessageRepository extends MongoRepository<ChatMessage, String> {
 
+    /** 클라이언트가 그리는 필드만 (read_count 등 제외) */
+    String CLIENT_FIELDS = "{ 'room_id': 1, 'seq': 1, 'sender_id': 1, 'content': 1, 'sent_at': 1 }";
+    String NEWEST_FIRST = "{ 'sent_at': -1, '_id': -1 }";
 
-}
+    /** 최신 메시지부터 (room_id, sent_at, _id) 인덱스 순서대로 */
+    @Query(value = "{ 'room_id': ?0 }", fields = CLIENT_FIELDS, sort = NEWEST_FIRST)
+    List<ChatMessageResponse> findLatest(Long roomId, Limit limit);
+
+    /** (sentAt, id) 커서보다 오래된 메시지 */
+    @Query(value = """
+            { 'room_id': ?0,
+              '$or': [ { 'sent_at': { '$lt': ?1 } },
+                       { 'sent_at': ?1, '_id': { '$lt': ?2 } } ] }
+            """, fields = CLIENT_FIELDS, sort = NEWEST_FIRST)
+    List<ChatMessageResponse> findBefore(Long roomId, Instant sentAt, ObjectId id, Limit limit);
 
+    /** 재연결 재전송: seq가 afterSeq보다 큰 메시지를 오래된 순으로 */
+    @Query(value = "{ 'room_id': ?0, 'seq': { '$gt': ?1 } }", fields = CLIENT_FIELDS, sort = "{ 'seq': 1 }")
+    List<ChatMessageResponse> findAfterSeq(Long roomId, Long afterSeq, Limit limit);
 
+    /** 방의 마지막 seq (Redis 카운터 시드용) */
+    @Query(value = "{ 'room_id': ?0, 'seq': { '$exists': true } }", fields = "{ 'seq': 1 }", sort = "{ 'seq': -1 }")
+    List<ChatMessage> findLastSeq(Long roomId, Limit limit);
+}
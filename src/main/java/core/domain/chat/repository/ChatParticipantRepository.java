@@ -1,48 +1,54 @@
-//package core.domain.chat.repository;
-//
-//import core.domain.chat.entity.ChatParticipant;
-//import core.domain.chat.entity.ChatRoom;
-//import core.global.enums.ChatParticipantStatus;
-//import org.springframework.data.jpa.repository.JpaRepository;
-//import org.springframework.data.jpa.repository.Modifying;
-//import org.springframework.data.jpa.repository.Query;
-//import org.springframework.data.repository.query.Param;
-//import org.springframework.stereotype.Repository;
-//
-//import java.util.List;
-//import java.util.Optional;
-//
-//@Repository
-//public interface ChatParticipantRepository extends JpaRepository<ChatParticipant, Long> {
-//
-//    List<ChatParticipant> findByChatRoomId(Long chatRoomId);
-//
-//    Optional<ChatParticipant> findByChatRoomIdAndUserIdAndStatusIsNot(Long chatRoomId, Long userId, ChatParticipantStatus status);
-//
-//    Optional<ChatParticipant> findByChatRoomIdAndUserId(Long chatRoomId, Long userId);
-//
-//    long countByChatRoomIdAndStatus(Long roomId, ChatParticipantStatus status);
-//
-//    @Query(
-//        "SELECT cr FROM ChatRoom cr " +
-//                "WHERE cr.id IN (SELECT cp.chatRoom.id FROM ChatParticipant cp WHERE cp.user.id = :userId) " +
-//                "AND (" +
-//                "   (cr.group = true AND cr.roomName LIKE %:keyword%) " +
-//                "   OR " +
-//                "   (cr.group = false AND EXISTS (" +
-//                "       SELECT 1 FROM ChatParticipant cp2 " +
-//                "       JOIN cp2.user u " +
-//                "       WHERE cp2.chatRoom = cr AND cp2.user.id != :userId " +
-//                "       AND CONCAT(u.firstName, u.lastName) LIKE %:keyword%" +
-//                "   ))" +
-//                ")"
-//    )
-//    List<ChatRoom> findChatRoomsByUserIdAndRoomName(@Param("userId") Long userId, @Param("keyword") String keyword);
-//    List<ChatParticipant> findByChatRoom(ChatRoom chatRoom);
-//    @Modifying
-//    @Query("DELETE FROM ChatParticipant p WHERE p.user.id = :userId")
-//    void deleteAllByUserId(@Param("userId") Long userId);
-//
-//
-//
-//}
\ No newline at end of file
+package core.domain.chat.repository;
+
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.entity.ChatRoom;
+import core.global.enums.ChatParticipantStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChatParticipantRepository extends JpaRepository<ChatParticipant, Long> {
+
+    List<ChatParticipant> findByChatRoomId(Long chatRoomId);
+
+    Optional<ChatParticipant> findByChatRoomIdAndUserIdAndStatusIsNot(Long chatRoomId, Long userId, ChatParticipantStatus status);
+
+    Optional<ChatParticipant> findByChatRoomIdAndUserId(Long chatRoomId, Long userId);
+
+    boolean existsByChatRoomIdAndUserIdAndStatus(Long chatRoomId, Long userId, ChatParticipantStatus status);
+
+    long countByChatRoomIdAndStatus(Long roomId, ChatParticipantStatus status);
+
+    @Query("SELECT p.userId FROM ChatParticipant p WHERE p.chatRoom.id = :roomId AND p.status = :status")
+    List<Long> findUserIdsByChatRoomIdAndStatus(@Param("roomId") Long roomId,
+                                                @Param("status") ChatParticipantStatus status);
+
+    /** 사용자가 ACTIVE로 참여 중인 방 [chatroom_id, created_at] (방 목록 인박스 초기화용) */
+    @Query("SELECT p.chatRoom.id, p.chatRoom.createdAt FROM ChatParticipant p WHERE p.userId = :userId AND p.status = :status")
+    List<Object[]> findRoomIdsAndCreatedAtByUserIdAndStatus(@Param("userId") Long userId,
+                                                            @Param("status") ChatParticipantStatus status);
+
+    /** 읽음 포인터만 갱신 (엔티티 로딩 없이). 저장된 seq보다 앞선 포인터로는 되돌리지 않음 */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChatParticipant p SET p.lastReadMessageId = :messageId, p.lastReadSeq = :seq " +
+            "WHERE p.chatRoom.id = :roomId AND p.userId = :userId " +
+            "AND (p.lastReadSeq IS NULL OR p.lastReadSeq < :seq)")
+    int updateLastReadMessageId(@Param("roomId") Long roomId,
+                                @Param("userId") Long userId,
+                                @Param("messageId") String messageId,
+                                @Param("seq") long seq);
+
+    List<ChatParticipant> findByChatRoom(ChatRoom chatRoom);
+
+    @Modifying
+    @Query("DELETE FROM ChatParticipant p WHERE p.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
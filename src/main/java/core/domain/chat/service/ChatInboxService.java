@@ -0,0 +1,312 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.global.enums.ChatParticipantStatus;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import core.global.pagination.CursorCodec;
+import core.global.pagination.CursorPageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 목록(인박스).
+ * 사용자별 ZSET(chat:inbox:{userId})에 방 id를 마지막 활동 시각(epoch millis) 점수로 두고,
+ * 방별 요약 해시(chat:room:{id}:summary)에 마지막 메시지 미리보기/보낸 사람/시각/참여자를 둡니다.
+ * 둘 다 메시지 저장 시 한 번의 파이프라인으로 갱신하므로, 목록 조회는 ZREVRANGEBYSCORE 한 번과
+ * 요약/안 읽은 수 HMGET 파이프라인 한 번으로 끝납니다. 페이지는 (점수, 방 id) keyset 커서로 넘깁니다.
+ * 요약의 참여자 목록에 사용자가 없으면 DB로 확인한 뒤에만 인박스에서 빼고, 아직 참여 중이면 목록을 고쳐 적습니다.
+ */
+@Slf4j
+@Service
+public class ChatInboxService {
+
+    private static final String INBOX_PREFIX = "chat:inbox:";
+    private static final int SNIPPET_LENGTH = 100;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private static final String F_NAME = "name";
+    private static final String F_GROUP = "group";
+    private static final String F_PARTICIPANTS = "participants";
+    private static final String F_LAST_MESSAGE = "lastMessage";
+    private static final String F_SENDER = "senderId";
+    private static final String F_SENT_AT = "sentAt";
+    private static final byte[][] SUMMARY_FIELDS = bytes(
+            F_NAME, F_GROUP, F_PARTICIPANTS, F_LAST_MESSAGE, F_SENDER, F_SENT_AT);
+
+    private final StringRedisTemplate redis;
+    private final ChatRoomMembers members;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+
+    public ChatInboxService(StringRedisTemplate redis,
+                            ChatRoomMembers members,
+                            ChatRoomRepository chatRoomRepository,
+                            ChatParticipantRepository chatParticipantRepository) {
+        this.redis = redis;
+        this.members = members;
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatParticipantRepository = chatParticipantRepository;
+    }
+
+    /** 메시지 저장 후: 방 요약 갱신 + 참여자 전원의 인박스 점수 갱신 (한 번의 파이프라인) */
+    public void onMessage(ChatMessageResponse view) {
+        List<Long> userIds = members.active(view.chatRoomId());
+        long at = view.sentAt().toEpochMilli();
+        byte[] room = utf8(String.valueOf(view.chatRoomId()));
+
+        Map<byte[], byte[]> summary = new HashMap<>();
+        summary.put(utf8(F_LAST_MESSAGE), utf8(snippet(view.content())));
+        summary.put(utf8(F_SENDER), utf8(String.valueOf(view.senderId())));
+        summary.put(utf8(F_SENT_AT), utf8(String.valueOf(at)));
+        summary.put(utf8(F_PARTICIPANTS), utf8(join(userIds)));
+
+        redis.executePipelined((RedisCallback<Object>) c -> {
+            c.hashCommands().hMSet(summaryKey(view.chatRoomId()), summary);
+            for (Long userId : userIds) {
+                // 노드 간 순서가 어긋나도 점수가 뒤로 가지 않도록 GT
+                c.zSetCommands().zAdd(inboxKey(userId), at, room, ZAddArgs.empty().gt());
+            }
+            return null;
+        });
+    }
+
+    /** 최근 활동 순 방 목록. 응답의 nextCursor로 다음 페이지를 이어갑니다. */
+    public CursorPageResponse<ChatRoomSummaryResponse> list(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String key = INBOX_PREFIX + userId;
+
+        Long cursorScore = null;
+        String cursorRoom = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                Map<String, Object> c = CursorCodec.decode(cursor);
+                cursorScore = ((Number) c.get("at")).longValue();
+                cursorRoom = String.valueOf(((Number) c.get("id")).longValue());
+            } catch (Exception e) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+        } else if (!Boolean.TRUE.equals(redis.hasKey(key))) {
+            seed(userId);
+        }
+
+        List<TypedTuple<String>> page = (cursorScore == null)
+                ? firstPage(key, pageSize + 1)
+                : pageAfter(key, cursorScore, cursorRoom, pageSize + 1);
+        boolean hasNext = page.size() > pageSize;
+        if (hasNext) page = page.subList(0, pageSize);
+        if (page.isEmpty()) return new CursorPageResponse<>(List.of(), false, null);
+
+        List<Long> roomIds = page.stream().map(t -> Long.valueOf(t.getValue())).toList();
+        List<ChatRoomSummaryResponse> items = summaries(userId, roomIds, page);
+
+        String nextCursor = null;
+        if (hasNext) {
+            TypedTuple<String> last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encodeActivity(last.getScore().longValue(), Long.valueOf(last.getValue()));
+        }
+        return new CursorPageResponse<>(items, hasNext, nextCursor);
+    }
+
+    private List<TypedTuple<String>> firstPage(String key, int limit) {
+        Set<TypedTuple<String>> tuples = redis.opsForZSet()
+                .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, limit);
+        return (tuples == null) ? new ArrayList<>() : new ArrayList<>(tuples);
+    }
+
+    /**
+     * 커서 (점수, 방 id) 다음부터 limit개.
+     * 같은 점수 안에서는 REV 순서가 멤버 역사전순이므로, 먼저 커서와 같은 점수의 방 중 커서 멤버보다
+     * 사전순으로 작은 것을 잇고, 나머지는 점수가 커서보다 작은 구간에서 채웁니다.
+     * 점수는 항상 정수 밀리초라 '커서 점수 미만'은 '커서 점수 - 1 이하'와 같습니다.
+     */
+    private List<TypedTuple<String>> pageAfter(String key, long cursorScore, String cursorRoom, int limit) {
+        List<TypedTuple<String>> page = new ArrayList<>(limit);
+        Set<TypedTuple<String>> ties = redis.opsForZSet()
+                .reverseRangeByScoreWithScores(key, cursorScore, cursorScore);
+        if (ties != null) {
+            for (TypedTuple<String> t : ties) {
+                if (t.getValue().compareTo(cursorRoom) >= 0) continue;
+                page.add(t);
+                if (page.size() == limit) return page;
+            }
+        }
+        Set<TypedTuple<String>> rest = redis.opsForZSet().reverseRangeByScoreWithScores(
+                key, Double.NEGATIVE_INFINITY, cursorScore - 1, 0, limit - page.size());
+        if (rest != null) page.addAll(rest);
+        return page;
+    }
+
+    /** 방 요약 HMGET들 + 안 읽은 수 HMGET을 한 번의 파이프라인으로 */
+    private List<ChatRoomSummaryResponse> summaries(Long userId, List<Long> roomIds, List<TypedTuple<String>> page) {
+        byte[][] unreadFields = roomIds.stream().map(id -> utf8(String.valueOf(id))).toArray(byte[][]::new);
+        List<Object> results = redis.executePipelined((RedisCallback<Object>) c -> {
+            for (Long roomId : roomIds) c.hashCommands().hMGet(summaryKey(roomId), SUMMARY_FIELDS);
+            c.hashCommands().hMGet(utf8(ChatUnreadService.KEY_PREFIX + userId), unreadFields);
+            return null;
+        });
+
+        @SuppressWarnings("unchecked")
+        List<Object> unread = (List<Object>) results.get(roomIds.size());
+        List<Summary> rows = new ArrayList<>(roomIds.size());
+        List<Long> missingMeta = new ArrayList<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<Object> h = (List<Object>) results.get(i);
+            Summary s = new Summary(roomIds.get(i), h, unread.get(i), page.get(i).getScore().longValue());
+            if (s.name == null && s.group == null) missingMeta.add(s.roomId);
+            rows.add(s);
+        }
+        if (!missingMeta.isEmpty()) fillMeta(rows, missingMeta);
+
+        List<ChatRoomSummaryResponse> out = new ArrayList<>(rows.size());
+        List<Long> left = new ArrayList<>();
+        Map<Long, List<Long>> staleParticipants = new HashMap<>();
+        for (Summary s : rows) {
+            if (s.participants != null && !s.participants.contains(userId)) {
+                // 요약의 참여자 목록은 캐시 기준이라 늦을 수 있음 → 빼기 전에 DB로 확인
+                if (!chatParticipantRepository.existsByChatRoomIdAndUserIdAndStatus(
+                        s.roomId, userId, ChatParticipantStatus.ACTIVE)) {
+                    left.add(s.roomId);
+                    continue;
+                }
+                s.participants = chatParticipantRepository.findUserIdsByChatRoomIdAndStatus(
+                        s.roomId, ChatParticipantStatus.ACTIVE);
+                staleParticipants.put(s.roomId, s.participants);
+            }
+            out.add(s.toResponse());
+        }
+        if (!left.isEmpty()) {
+            // 나간 방은 인박스에서 정리
+            redis.opsForZSet().remove(INBOX_PREFIX + userId, left.stream().map(String::valueOf).toArray());
+        }
+        if (!staleParticipants.isEmpty()) {
+            redis.executePipelined((RedisCallback<Object>) c -> {
+                staleParticipants.forEach((roomId, ids) ->
+                        c.hashCommands().hSet(summaryKey(roomId), utf8(F_PARTICIPANTS), utf8(join(ids))));
+                return null;
+            });
+        }
+        return out;
+    }
+
+    /** 메시지가 아직 없는 방 등 요약에 이름/참여자가 없으면 DB에서 채우고 요약 해시에 적어 둠 */
+    private void fillMeta(List<Summary> rows, List<Long> roomIds) {
+        Map<Long, ChatRoom> rooms = chatRoomRepository.findAllById(roomIds).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, r -> r));
+        Map<Long, Map<byte[], byte[]>> writes = new HashMap<>();
+        for (Summary s : rows) {
+            ChatRoom room = rooms.get(s.roomId);
+            if (room == null) continue;
+            s.name = room.getRoomName();
+            s.group = Boolean.TRUE.equals(room.getGroup());
+            if (s.participants == null) s.participants = members.active(s.roomId);
+
+            Map<byte[], byte[]> m = new HashMap<>();
+            if (s.name != null) m.put(utf8(F_NAME), utf8(s.name));
+            m.put(utf8(F_GROUP), utf8(String.valueOf(s.group)));
+            m.put(utf8(F_PARTICIPANTS), utf8(join(s.participants)));
+            writes.put(s.roomId, m);
+        }
+        if (writes.isEmpty()) return;
+        redis.executePipelined((RedisCallback<Object>) c -> {
+            writes.forEach((roomId, m) -> c.hashCommands().hMSet(summaryKey(roomId), m));
+            return null;
+        });
+    }
+
+    /** 인박스가 없을 때(첫 조회, 키 유실) 참여 중인 방을 방 생성 시각 점수로 채움 */
+    private void seed(Long userId) {
+        List<Object[]> rows = chatParticipantRepository.findRoomIdsAndCreatedAtByUserIdAndStatus(
+                userId, ChatParticipantStatus.ACTIVE);
+        if (rows.isEmpty()) return;
+        byte[] key = inboxKey(userId);
+        redis.executePipelined((RedisCallback<Object>) c -> {
+            for (Object[] r : rows) {
+                long at = (r[1] instanceof Instant i) ? i.toEpochMilli() : 0L;
+                c.zSetCommands().zAdd(key, at, utf8(String.valueOf(r[0])), ZAddArgs.ifNotExists());
+            }
+            return null;
+        });
+        log.debug("chat inbox seeded: userId={}, rooms={}", userId, rows.size());
+    }
+
+    private static String snippet(String content) {
+        if (content == null) return "";
+        return content.length() <= SNIPPET_LENGTH ? content : content.substring(0, SNIPPET_LENGTH);
+    }
+
+    private static String join(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static byte[] inboxKey(Long userId) {
+        return utf8(INBOX_PREFIX + userId);
+    }
+
+    private static byte[] summaryKey(Long roomId) {
+        return utf8("chat:room:" + roomId + ":summary");
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] bytes(String... values) {
+        return Arrays.stream(values).map(ChatInboxService::utf8).toArray(byte[][]::new);
+    }
+
+    /** HMGET 결과 한 줄 (SUMMARY_FIELDS 순서) */
+    private static final class Summary {
+        private final Long roomId;
+        private String name;
+        private Boolean group;
+        private List<Long> participants;
+        private final String lastMessage;
+        private final Long senderId;
+        private final long activityAt;
+        private final long unread;
+
+        private Summary(Long roomId, List<Object> h, Object unread, long score) {
+            this.roomId = roomId;
+            this.name = str(h, 0);
+            this.group = str(h, 1) == null ? null : Boolean.valueOf(str(h, 1));
+            String p = str(h, 2);
+            this.participants = (p == null) ? null
+                    : p.isEmpty() ? List.of() : Arrays.stream(p.split(",")).map(Long::valueOf).toList();
+            this.lastMessage = str(h, 3);
+            this.senderId = str(h, 4) == null ? null : Long.valueOf(str(h, 4));
+            this.activityAt = str(h, 5) == null ? score : Long.parseLong(str(h, 5));
+            this.unread = (unread == null) ? 0L : Long.parseLong(String.valueOf(unread));
+        }
+
+        private ChatRoomSummaryResponse toResponse() {
+            return new ChatRoomSummaryResponse(roomId, name, Boolean.TRUE.equals(group),
+                    participants == null ? List.of() : participants,
+                    lastMessage, senderId, Instant.ofEpochMilli(activityAt), unread);
+        }
+
+        private static String str(List<Object> h, int i) {
+            Object v = (h == null || h.size() <= i) ? null : h.get(i);
+            return v == null ? null : String.valueOf(v);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package core.domain.chat.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import core.domain.chat.entity.ChatMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방별 순서를 지키는 메시지 저장 배처.
+ * 방마다 큐를 두고 한 번에 하나의 drain만 돌게 해서, 앞 배치를 저장하는 동안 쌓인 메시지를
+ * 다음 insertMany 한 번으로 저장합니다. 조용한 방은 메시지 1건이 곧 배치 1건이라 지연이 늘지 않고,
+ * 붐비는 그룹방은 메시지 수가 아니라 배치 수만큼만 Mongo 왕복을 합니다.
+ * 저장 직전에 배치 크기만큼 방별 seq 구간을 한 번에 받아 순서대로 부여하며,
+ * 완료 콜백은 방별 저장(=seq) 순서대로 호출됩니다.
+ * insertMany는 ordered라 중간 문서에서 실패하면 그 앞까지만 저장됩니다. 저장된 앞부분은 성공으로 완료해 발행되게 하고,
+ * 실패 원인이 seq 충돌(카운터 유실 뒤 겹친 구간)이면 나머지에 새 구간을 받아 한 번 더 저장합니다.
+ * drain이 끝나 비어 있는 방의 큐는 제거해 방 수만큼 큐가 쌓이지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageBatcher {
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatSequencer sequencer;
+    private final int maxBatchSize;
+    private final Map<Long, RoomQueue> rooms = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor executor;
+
+    public ChatMessageBatcher(MongoTemplate mongoTemplate,
+                              ChatSequencer sequencer,
+                              @Value("${app.chat.batch.max-size:200}") int maxBatchSize,
+                              @Value("${app.chat.batch.threads:4}") int threads) {
+        this.mongoTemplate = mongoTemplate;
+        this.sequencer = sequencer;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("chat-batch-");
+        // 종료 시 큐에 남은 메시지까지 저장
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+    }
+
+    /** 저장이 끝나면 id가 채워진 메시지로 완료됩니다. */
+    public CompletableFuture<ChatMessage> submit(ChatMessage message) {
+        Pending pending = new Pending(message, new CompletableFuture<>());
+        // 큐 추가를 compute 안에서 해야 drain 끝의 빈 큐 제거와 엇갈려 제거된 큐에 넣는 일이 없음
+        RoomQueue room = rooms.compute(message.getChatRoomId(), (roomId, q) -> {
+            RoomQueue target = (q != null) ? q : new RoomQueue(roomId);
+            target.queue.add(pending);
+            return target;
+        });
+        schedule(room);
+        return pending.future;
+    }
+
+    private void schedule(RoomQueue room) {
+        if (room.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(room));
+        }
+    }
+
+    private void drain(RoomQueue room) {
+        try {
+            List<Pending> batch = new ArrayList<>(Math.min(maxBatchSize, 16));
+            Pending p;
+            while ((p = room.queue.poll()) != null) {
+                batch.add(p);
+                if (batch.size() >= maxBatchSize) {
+                    write(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) write(batch);
+        } finally {
+            room.draining.set(false);
+            // drain을 끝내는 사이에 들어온 메시지 처리
+            if (!room.queue.isEmpty()) {
+                schedule(room);
+            } else {
+                // 조용해진 방의 큐는 제거 (submit과 같은 잠금 안에서 다시 확인하므로 들어온 메시지를 놓치지 않음)
+                rooms.computeIfPresent(room.roomId,
+                        (k, q) -> q == room && q.queue.isEmpty() && !q.draining.get() ? null : q);
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        Long roomId = batch.get(0).message.getChatRoomId();
+        List<Pending> remaining = batch;
+        try {
+            long seq = sequencer.allocate(roomId, remaining.size());
+            for (int attempt = 1; ; attempt++) {
+                List<ChatMessage> docs = new ArrayList<>(remaining.size());
+                for (Pending p : remaining) {
+                    p.message.assignIdIfAbsent(new ObjectId().toHexString());
+                    p.message.assignSeq(seq++);
+                    docs.add(p.message);
+                }
+                try {
+                    mongoTemplate.insert(docs, ChatMessage.class);
+                    complete(remaining);
+                    return;
+                } catch (DataAccessException e) {
+                    MongoBulkWriteException bulk = bulkWriteError(e);
+                    if (bulk == null || bulk.getWriteErrors().isEmpty()) throw e;
+                    BulkWriteError first = bulk.getWriteErrors().get(0);
+                    // 실패한 문서 앞까지는 저장됨 → 그대로 발행되도록 완료
+                    complete(remaining.subList(0, first.getIndex()));
+                    remaining = remaining.subList(first.getIndex(), remaining.size());
+                    if (attempt > 1 || !isSeqConflict(first)) throw e;
+                    log.warn("chat seq conflict, reallocating: roomId={}, remaining={}", roomId, remaining.size());
+                    seq = sequencer.reallocate(roomId, remaining.size());
+                }
+            }
+        } catch (Exception e) {
+            log.error("chat message batch insert failed: roomId={}, size={}, failed={}",
+                    roomId, batch.size(), remaining.size(), e);
+            for (Pending p : remaining) p.future.completeExceptionally(e);
+        }
+    }
+
+    private static void complete(List<Pending> stored) {
+        for (Pending p : stored) p.future.complete(p.message);
+    }
+
+    private static MongoBulkWriteException bulkWriteError(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof MongoBulkWriteException bulk) return bulk;
+        }
+        return null;
+    }
+
+    /** (room_id, seq) 유니크 인덱스 위반 */
+    private static boolean isSeqConflict(BulkWriteError error) {
+        return error.getCode() == 11000 && error.getMessage() != null && error.getMessage().contains("room_seq_idx");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class RoomQueue {
+        private final Long roomId;
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private RoomQueue(Long roomId) {
+            this.roomId = roomId;
+        }
+    }
+
+    private record Pending(ChatMessage message, CompletableFuture<ChatMessage> future) {
+    }
+}
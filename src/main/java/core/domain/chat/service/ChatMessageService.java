@@ -0,0 +1,163 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.global.enums.ChatParticipantStatus;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import core.global.pagination.CursorCodec;
+import core.global.pagination.CursorPageResponse;
+import core.global.service.ForbiddenWordService;
+import core.global.service.RedisChatPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 채팅 메시지 저장/히스토리 조회.
+ * 저장은 {@link ChatMessageBatcher}로 방별 순서를 지키며 묶어서 하고(이때 방별 seq 부여),
+ * 저장이 끝난 순서대로 Redis 방 채널에 발행하고 재연결 재전송용 스트림에 남깁니다.
+ * 히스토리는 (sentAt, id) keyset 커서로 과거 방향으로 페이지를 넘깁니다.
+ * 안 읽은 수는 {@link ChatUnreadService}의 Redis 카운터로, 읽음 포인터는 {@link ChatReadPointerWriter}로 모아서 씁니다.
+ * 방 목록 정렬/미리보기는 {@link ChatInboxService}가 저장 시점에 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatMessageBatcher batcher;
+    private final RedisChatPublisher publisher;
+    private final ChatReplayService replayService;
+    private final ChatUnreadService unreadService;
+    private final ChatReadPointerWriter readPointerWriter;
+    private final ChatInboxService inboxService;
+    private final ForbiddenWordService forbiddenWordService;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** auto-index-creation이 꺼져 있으므로 엔티티에 선언한 인덱스를 직접 보장 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations ops = mongoTemplate.indexOps(ChatMessage.class);
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(ChatMessage.class)
+                    .forEach(ops::ensureIndex);
+        } catch (Exception e) {
+            log.warn("chat message indexes not applied: {}", e.getMessage());
+        }
+    }
+
+    public CompletableFuture<ChatMessageResponse> send(Long roomId, Long senderId, String content) {
+        if (!chatParticipantRepository.existsByChatRoomIdAndUserIdAndStatus(roomId, senderId, ChatParticipantStatus.ACTIVE)) {
+            throw new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT);
+        }
+        if (forbiddenWordService.containsForbiddenWord(content)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_WORD_DETECTED);
+        }
+        return batcher.submit(new ChatMessage(roomId, senderId, content))
+                .thenApply(saved -> {
+                    ChatMessageResponse view = ChatMessageResponse.from(saved);
+                    publish(view);
+                    countUnread(view);
+                    return view;
+                });
+    }
+
+    /**
+     * 최신 → 과거 순. 응답의 nextCursor로 더 오래된 메시지를 이어서 조회합니다.
+     */
+    public CursorPageResponse<ChatMessageResponse> getHistory(Long roomId, Long userId, String cursor, int size) {
+        if (!chatParticipantRepository.existsByChatRoomIdAndUserIdAndStatus(roomId, userId, ChatParticipantStatus.ACTIVE)) {
+            throw new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ChatMessageResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = chatMessageRepository.findLatest(roomId, limit);
+        } else {
+            Instant sentAt;
+            ObjectId id;
+            try {
+                Map<String, Object> c = CursorCodec.decode(cursor);
+                sentAt = Instant.parse((String) c.get("t"));
+                id = new ObjectId((String) c.get("id"));
+            } catch (Exception e) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            rows = chatMessageRepository.findBefore(roomId, sentAt, id, limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ChatMessageResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ChatMessageResponse last = items.get(items.size() - 1);
+            Map<String, Object> m = new HashMap<>();
+            m.put("t", last.sentAt().toString());
+            m.put("id", last.id());
+            nextCursor = CursorCodec.encode(m);
+        }
+        return new CursorPageResponse<>(items, hasNext, nextCursor);
+    }
+
+    /** 읽음 ack: 카운터는 바로 비우고, DB 읽음 포인터는 모아서 씀 */
+    public void markRead(Long roomId, Long userId, String messageId, Long seq) {
+        unreadService.reset(roomId, userId);
+        if (messageId != null && seq != null) {
+            readPointerWriter.offer(roomId, userId, messageId, seq);
+        }
+    }
+
+    private void countUnread(ChatMessageResponse view) {
+        // 카운터와 인박스는 서로 독립이라 한쪽이 실패해도 다른 쪽은 갱신
+        try {
+            unreadService.incrementForOthers(view.chatRoomId(), view.senderId());
+        } catch (Exception e) {
+            log.warn("unread update failed: roomId={}, messageId={}: {}",
+                    view.chatRoomId(), view.id(), e.getMessage());
+        }
+        try {
+            inboxService.onMessage(view);
+        } catch (Exception e) {
+            log.warn("inbox update failed: roomId={}, messageId={}: {}",
+                    view.chatRoomId(), view.id(), e.getMessage());
+        }
+    }
+
+    private void publish(ChatMessageResponse view) {
+        try {
+            String json = objectMapper.writeValueAsString(view);
+            publisher.publish(view.chatRoomId(), json);
+            replayService.append(view.chatRoomId(), view.seq(), json);
+        } catch (Exception e) {
+            // 저장은 끝났으므로 실시간 전달만 실패 — 클라이언트는 히스토리로 복구
+            log.warn("chat message publish failed: roomId={}, messageId={}: {}",
+                    view.chatRoomId(), view.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package core.domain.chat.service;
+
+import core.domain.chat.repository.ChatParticipantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 포인터(ChatParticipant.lastReadMessageId) 쓰기 합치기.
+ * 읽음 ack는 (방, 사용자)별로 가장 큰 seq의 메시지 id만 메모리에 남기고,
+ * flush 주기마다 (방, 사용자)당 한 번만 DB에 씁니다.
+ * DB에는 last_read_seq가 더 작을 때만 쓰므로, 늦게 도착한 ack나 노드 간 순서 뒤바뀜으로 포인터가 뒤로 가지 않습니다.
+ * 종료 시 남은 포인터를 한 번 더 씁니다.
+ */
+@Slf4j
+@Component
+public class ChatReadPointerWriter {
+
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final Map<Key, Pointer> pending = new ConcurrentHashMap<>();
+
+    public ChatReadPointerWriter(ChatParticipantRepository chatParticipantRepository) {
+        this.chatParticipantRepository = chatParticipantRepository;
+    }
+
+    public void offer(Long roomId, Long userId, String messageId, long seq) {
+        pending.merge(new Key(roomId, userId), new Pointer(messageId, seq),
+                (old, cur) -> cur.seq() >= old.seq() ? cur : old);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.read-pointer.flush-interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+        int written = 0;
+        Map<Key, Pointer> failed = new HashMap<>();
+        for (Key key : pending.keySet()) {
+            Pointer p = pending.remove(key);
+            if (p == null) continue;
+            try {
+                written += chatParticipantRepository.updateLastReadMessageId(
+                        key.roomId(), key.userId(), p.messageId(), p.seq());
+            } catch (Exception e) {
+                failed.put(key, p);
+                log.warn("read pointer write failed: roomId={}, userId={}: {}", key.roomId(), key.userId(), e.getMessage());
+            }
+        }
+        // 다음 flush에서 다시 시도 (그 사이 더 앞선 ack가 왔으면 그쪽이 남음)
+        failed.forEach((key, p) -> offer(key.roomId(), key.userId(), p.messageId(), p.seq()));
+        log.debug("read pointers flushed: {}", written);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private record Key(Long roomId, Long userId) {
+    }
+
+    private record Pointer(String messageId, long seq) {
+    }
+}
@@ -0,0 +1,188 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.global.config.CustomUserDetails;
+import core.global.enums.ChatParticipantStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재연결 재전송.
+ * 방마다 최근 메시지를 Redis 스트림(chat:room:{id}:stream)에 window개까지 남겨 두고,
+ * 클라이언트가 SUBSCRIBE /topic/room.{id} 프레임에 last-seq 헤더로 마지막으로 본 seq를 보내면
+ * 그 다음 구간만 /user/queue/room.{id}로 해당 세션에 다시 보냅니다.
+ * 스트림에 구간이 온전히 남아 있지 않으면(window를 지나쳤거나 중간이 빠짐) Mongo에서 seq 순으로 읽습니다.
+ * 클라이언트는 /user/queue/room.{id}를 먼저 구독한 뒤 방 토픽을 구독해야 합니다.
+ */
+@Slf4j
+@Service
+public class ChatReplayService {
+
+    public static final String LAST_SEQ_HEADER = "last-seq";
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/room.";
+    private static final int READ_CHUNK = 50;
+
+    private final StringRedisTemplate redis;
+    private final SimpMessagingTemplate simp;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ObjectMapper objectMapper;
+    private final int window;
+    private final long windowTtlSeconds;
+    private final int maxReplay;
+
+    public ChatReplayService(StringRedisTemplate redis,
+                             SimpMessagingTemplate simp,
+                             ChatMessageRepository chatMessageRepository,
+                             ChatParticipantRepository chatParticipantRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${app.chat.replay.window:200}") int window,
+                             @Value("${app.chat.replay.window-ttl-seconds:86400}") long windowTtlSeconds,
+                             @Value("${app.chat.replay.max-messages:500}") int maxReplay) {
+        this.redis = redis;
+        this.simp = simp;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.objectMapper = objectMapper;
+        this.window = window;
+        this.windowTtlSeconds = windowTtlSeconds;
+        this.maxReplay = maxReplay;
+    }
+
+    /** 발행한 메시지를 방 스트림에 추가 (window 근사 트림 + TTL을 한 번의 파이프라인으로) */
+    public void append(Long roomId, long seq, String json) {
+        byte[] key = streamKey(roomId).getBytes(StandardCharsets.UTF_8);
+        ByteRecord record = StreamRecords.rawBytes(Map.of(
+                "seq".getBytes(StandardCharsets.UTF_8), String.valueOf(seq).getBytes(StandardCharsets.UTF_8),
+                "body".getBytes(StandardCharsets.UTF_8), json.getBytes(StandardCharsets.UTF_8)
+        )).withStreamKey(key);
+        redis.executePipelined((RedisCallback<Object>) c -> {
+            c.streamCommands().xAdd(record, XAddOptions.maxlen(window).approximateTrimming(true));
+            c.keyCommands().expire(key, windowTtlSeconds);
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        String lastSeqHeader = accessor.getFirstNativeHeader(LAST_SEQ_HEADER);
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX) || lastSeqHeader == null) return;
+        if (!(event.getUser() instanceof Authentication auth)
+                || !(auth.getPrincipal() instanceof CustomUserDetails me)) return;
+
+        try {
+            Long roomId = Long.parseLong(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+            long lastSeq = Long.parseLong(lastSeqHeader);
+            if (!chatParticipantRepository.existsByChatRoomIdAndUserIdAndStatus(
+                    roomId, me.getUserId(), ChatParticipantStatus.ACTIVE)) return;
+
+            List<String> missed = missedSince(roomId, lastSeq);
+            for (String json : missed) {
+                simp.convertAndSendToUser(auth.getName(), "/queue/room." + roomId,
+                        json.getBytes(StandardCharsets.UTF_8), sessionHeaders(accessor.getSessionId()));
+            }
+            if (!missed.isEmpty()) {
+                log.debug("chat replay: roomId={}, userId={}, afterSeq={}, count={}",
+                        roomId, me.getUserId(), lastSeq, missed.size());
+            }
+        } catch (NumberFormatException e) {
+            log.debug("chat replay skipped: bad {} header '{}'", LAST_SEQ_HEADER, lastSeqHeader);
+        } catch (Exception e) {
+            log.warn("chat replay failed: destination={}: {}", destination, e.getMessage());
+        }
+    }
+
+    /** lastSeq 다음부터의 메시지 JSON (오래된 순) */
+    List<String> missedSince(Long roomId, long lastSeq) throws Exception {
+        List<Entry> fromStream = readStream(roomId, lastSeq);
+        if (fromStream != null) return fromStream.stream().map(Entry::json).toList();
+
+        List<ChatMessageResponse> rows = chatMessageRepository.findAfterSeq(roomId, lastSeq, Limit.of(maxReplay));
+        List<String> out = new ArrayList<>(rows.size());
+        for (ChatMessageResponse r : rows) out.add(objectMapper.writeValueAsString(r));
+        return out;
+    }
+
+    /**
+     * 스트림을 최신부터 거꾸로 READ_CHUNK개씩 읽어 lastSeq 이하가 나올 때까지 모읍니다.
+     * lastSeq+1부터 빈틈없이 모였으면 seq 순 목록, 아니면 null (Mongo로 대체).
+     */
+    private List<Entry> readStream(Long roomId, long lastSeq) {
+        String key = streamKey(roomId);
+        List<Entry> collected = new ArrayList<>();
+        Range<String> range = Range.unbounded();
+        boolean reachedLastSeq = false;
+
+        while (collected.size() <= maxReplay) {
+            List<MapRecord<String, Object, Object>> page = redis.opsForStream().reverseRange(key, range,
+                    org.springframework.data.redis.connection.Limit.limit().count(READ_CHUNK));
+            if (page == null || page.isEmpty()) break;
+
+            for (MapRecord<String, Object, Object> r : page) {
+                long seq = Long.parseLong(String.valueOf(r.getValue().get("seq")));
+                if (seq <= lastSeq) {
+                    reachedLastSeq = true;
+                } else {
+                    collected.add(new Entry(seq, String.valueOf(r.getValue().get("body"))));
+                }
+            }
+            // 노드 간 XADD 순서가 seq와 살짝 어긋날 수 있어, lastSeq 이하를 만난 페이지까지는 다 읽고 멈춤
+            if (reachedLastSeq || page.size() < READ_CHUNK) break;
+            range = Range.leftUnbounded(Range.Bound.exclusive(page.get(page.size() - 1).getId().getValue()));
+        }
+
+        if (collected.size() > maxReplay) return null;
+        collected.sort(Comparator.comparingLong(Entry::seq));
+        long expected = lastSeq + 1;
+        for (Entry e : collected) {
+            if (e.seq() != expected) return null;
+            expected++;
+        }
+        // 스트림 바닥까지 읽었는데 lastSeq를 못 만났으면, 빈 결과가 '밀린 것 없음'인지 'window 밖'인지 구분 불가
+        return (reachedLastSeq || !collected.isEmpty()) ? collected : null;
+    }
+
+    private static MessageHeaders sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.setLeaveMutable(true);
+        return headers.getMessageHeaders();
+    }
+
+    private static String streamKey(Long roomId) {
+        return "chat:room:" + roomId + ":stream";
+    }
+
+    private record Entry(long seq, String json) {
+    }
+}
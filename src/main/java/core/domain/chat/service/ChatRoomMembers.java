@@ -0,0 +1,35 @@
+package core.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.global.enums.ChatParticipantStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 방별 ACTIVE 참여자 id 목록 캐시. 메시지마다 참여자 전원에게 카운터/인박스를 갱신하므로 DB 조회를 짧게 캐싱합니다.
+ * 참여자 변경은 드물고 TTL 안에 반영되며, 그 사이에는 배지 하나가 덜/더 오를 뿐입니다.
+ */
+@Component
+public class ChatRoomMembers {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final LoadingCache<Long, List<Long>> cache;
+
+    public ChatRoomMembers(ChatParticipantRepository chatParticipantRepository) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(TTL)
+                .build(roomId -> chatParticipantRepository.findUserIdsByChatRoomIdAndStatus(
+                        roomId, ChatParticipantStatus.ACTIVE));
+    }
+
+    public List<Long> active(Long roomId) {
+        List<Long> members = cache.get(roomId);
+        return members == null ? List.of() : members;
+    }
+}
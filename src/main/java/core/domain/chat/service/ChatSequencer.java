@@ -0,0 +1,73 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 방별 메시지 순번 발급. Redis 카운터(chat:room:{id}:seq)를 INCRBY로 올려 배치 단위로 구간을 받습니다.
+ * 키가 없으면(처음 보는 방, 만료/유실) 발급 경로 안에서 Mongo에 저장된 마지막 seq를 읽어
+ * 카운터를 그 값 이상으로 올린 뒤 발급합니다. 노드별 캐시에 기대지 않으므로 어느 노드가 먼저 발급해도 같습니다.
+ * 카운터가 유실된 사이 아직 저장되지 않은 구간과 겹치면 (room_id, seq) 유니크 인덱스가 막고,
+ * ChatMessageBatcher가 {@link #reallocate}로 다시 받습니다.
+ */
+@Component
+public class ChatSequencer {
+
+    private static final String KEY_SUFFIX = ":seq";
+
+    // KEYS[1]=카운터, ARGV[1]=발급 개수. 키가 없으면 발급하지 않고 -1
+    private static final DefaultRedisScript<Long> ALLOCATE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    // KEYS[1]=카운터, ARGV[1]=발급 개수, ARGV[2]=하한. 카운터가 하한보다 작으면(없으면) 하한으로 올린 뒤 발급
+    private static final DefaultRedisScript<Long> ALLOCATE_ABOVE = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if current < tonumber(ARGV[2]) then
+              redis.call('SET', KEYS[1], ARGV[2])
+            end
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final ChatMessageRepository chatMessageRepository;
+
+    public ChatSequencer(StringRedisTemplate redis, ChatMessageRepository chatMessageRepository) {
+        this.redis = redis;
+        this.chatMessageRepository = chatMessageRepository;
+    }
+
+    /** count개의 연속 번호를 발급하고 첫 번호를 돌려줍니다. */
+    public long allocate(Long roomId, int count) {
+        Long last = redis.execute(ALLOCATE, List.of(key(roomId)), String.valueOf(count));
+        if (last == null) throw new IllegalStateException("seq allocation failed: roomId=" + roomId);
+        if (last < 0) return reallocate(roomId, count);
+        return last - count + 1;
+    }
+
+    /** 카운터를 Mongo의 마지막 seq 이상으로 올린 뒤 count개를 발급합니다. (키 유실, 저장된 seq와 충돌 시) */
+    public long reallocate(Long roomId, int count) {
+        Long last = redis.execute(ALLOCATE_ABOVE, List.of(key(roomId)),
+                String.valueOf(count), String.valueOf(lastStoredSeq(roomId)));
+        if (last == null) throw new IllegalStateException("seq allocation failed: roomId=" + roomId);
+        return last - count + 1;
+    }
+
+    private long lastStoredSeq(Long roomId) {
+        List<ChatMessage> top = chatMessageRepository.findLastSeq(roomId, Limit.of(1));
+        return (top.isEmpty() || top.get(0).getSeq() == null) ? 0L : top.get(0).getSeq();
+    }
+
+    private static String key(Long roomId) {
+        return "chat:room:" + roomId + KEY_SUFFIX;
+    }
+}
@@ -0,0 +1,78 @@
+package core.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 안 읽은 메시지 수. 사용자별 Redis 해시(chat:unread:{userId})에 방 id → 개수를 둡니다.
+ * 메시지를 보내면 보낸 사람을 뺀 ACTIVE 참여자 전원의 카운터를 한 번의 파이프라인으로 올리고,
+ * 읽음 처리하면 해당 방 필드를 지웁니다. 방 목록 배지는 해시 하나만 읽으면 되므로 Mongo를 훑지 않습니다.
+ */
+@Slf4j
+@Service
+public class ChatUnreadService {
+
+    static final String KEY_PREFIX = "chat:unread:";
+
+    private final StringRedisTemplate redis;
+    private final ChatRoomMembers members;
+
+    public ChatUnreadService(StringRedisTemplate redis, ChatRoomMembers members) {
+        this.redis = redis;
+        this.members = members;
+    }
+
+    public void incrementForOthers(Long roomId, Long senderId) {
+        List<Long> userIds = members.active(roomId);
+        if (userIds.isEmpty()) return;
+        byte[] field = String.valueOf(roomId).getBytes(StandardCharsets.UTF_8);
+        redis.executePipelined((RedisCallback<Object>) c -> {
+            for (Long userId : userIds) {
+                if (userId.equals(senderId)) continue;
+                c.hashCommands().hIncrBy(key(userId), field, 1L);
+            }
+            return null;
+        });
+    }
+
+    public void reset(Long roomId, Long userId) {
+        redis.opsForHash().delete(KEY_PREFIX + userId, String.valueOf(roomId));
+    }
+
+    /** 사용자의 모든 방 안 읽은 수 (0인 방은 없음) */
+    public Map<Long, Long> counts(Long userId) {
+        Map<Object, Object> raw = redis.opsForHash().entries(KEY_PREFIX + userId);
+        Map<Long, Long> out = new HashMap<>(raw.size());
+        raw.forEach((room, count) -> out.put(Long.valueOf((String) room), Long.valueOf((String) count)));
+        return out;
+    }
+
+    /** 지정한 방들의 안 읽은 수 (없으면 0) */
+    public Map<Long, Long> counts(Long userId, Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) return Map.of();
+        List<Object> fields = new ArrayList<>(roomIds.size());
+        for (Long roomId : roomIds) fields.add(String.valueOf(roomId));
+        List<Object> values = redis.opsForHash().multiGet(KEY_PREFIX + userId, fields);
+
+        Map<Long, Long> out = new HashMap<>(roomIds.size());
+        int i = 0;
+        for (Long roomId : roomIds) {
+            Object v = values.get(i++);
+            out.put(roomId, v == null ? 0L : Long.parseLong((String) v));
+        }
+        return out;
+    }
+
+    private static byte[] key(Long userId) {
+        return (KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+}
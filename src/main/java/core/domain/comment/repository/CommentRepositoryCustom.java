@@ -6,12 +6,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import java.time.Instant;
+import java.util.Collection;
 
 public interface CommentRepositoryCustom {
-    Slice<Comment> findByPostId(Long userId, Long postId, Pageable pageable);
+    Slice<Comment> findByPostId(Collection<Long> hiddenAuthorIds, Long postId, Pageable pageable);
 
     Slice<Comment> findCommentByCursor(
-            Long userId,
+            Collection<Long> hiddenAuthorIds,
             Long postId,
             Instant cursorCreatedAt,
             Long cursorId,
@@ -19,14 +20,14 @@ public interface CommentRepositoryCustom {
     );
 
     Slice<Comment> findPopularByPostId(
-            Long userId,
+            Collection<Long> hiddenAuthorIds,
             Long postId,
             LikeType type,
             Pageable pageable
     );
 
     Slice<Comment> findPopularByCursor(
-            Long userId,
+            Collection<Long> hiddenAuthorIds,
             Long postId,
             LikeType type,
             Long cursorLikeCount,
@@ -8,7 +8,6 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import core.domain.comment.entity.Comment;
 import core.domain.comment.entity.QComment;
 import core.domain.post.entity.QPost;
-import core.domain.user.entity.QBlockUser;
 import core.domain.user.entity.QUser;
 import core.global.enums.LikeType;
 import core.global.like.entity.QLike;
@@ -18,6 +17,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -28,21 +28,19 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     private static final QComment c = QComment.comment;
     private static final QUser u = new QUser("u");
     private static final QPost p = QPost.post;
-    private static final QBlockUser bu1 = new QBlockUser("bu1");
-    private static final QBlockUser bu2 = new QBlockUser("bu2");
     private static final QLike l = QLike.like;
 
     // ───────────────────────── 최신 ─────────────────────────
 
     @Override
-    public Slice<Comment> findByPostId(Long userId, Long postId, Pageable pageable) {
+    public Slice<Comment> findByPostId(Collection<Long> hiddenAuthorIds, Long postId, Pageable pageable) {
         List<Comment> rows = query
                 .selectFrom(c)
                 .join(c.author, u).fetchJoin()
                 .join(c.post, p).fetchJoin()
                 .where(
                         p.id.eq(postId)
-                                .and(visibleTo(userId))
+                                .and(visibleTo(hiddenAuthorIds))
                 )
                 .orderBy(c.createdAt.desc(), c.id.desc())
                 .limit(pageable.getPageSize() + 1L)
@@ -53,7 +51,7 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
     @Override
     public Slice<Comment> findCommentByCursor(
-            Long userId, Long postId, Instant cursorCreatedAt, Long cursorId, Pageable pageable
+            Collection<Long> hiddenAuthorIds, Long postId, Instant cursorCreatedAt, Long cursorId, Pageable pageable
     ) {
         BooleanExpression ltCursor = c.createdAt.lt(cursorCreatedAt)
                 .or(c.createdAt.eq(cursorCreatedAt)
@@ -66,7 +64,7 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                 .where(
                         p.id.eq(postId)
                                 .and(ltCursor)
-                                .and(visibleTo(userId))
+                                .and(visibleTo(hiddenAuthorIds))
                 )
                 .orderBy(c.createdAt.desc(), c.id.desc())
                 .limit(pageable.getPageSize() + 1L)
@@ -78,7 +76,7 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     // ───────────────────────── 인기(좋아요 desc, createdAt desc, id desc) ─────────────────────────
     @Override
     public Slice<Comment> findPopularByPostId(
-            Long userId, Long postId, LikeType type, Pageable pageable
+            Collection<Long> hiddenAuthorIds, Long postId, LikeType type, Pageable pageable
     ) {
         NumberExpression<Long> lc = likeCount(type);
 
@@ -88,7 +86,7 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                 .join(c.post, p).fetchJoin()
                 .where(
                         p.id.eq(postId)
-                                .and(visibleTo(userId))
+                                .and(visibleTo(hiddenAuthorIds))
                 )
                 .orderBy(lc.desc(), c.createdAt.desc(), c.id.desc())
                 .limit(pageable.getPageSize() + 1L)
@@ -99,7 +97,7 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
     @Override
     public Slice<Comment> findPopularByCursor(
-            Long userId,
+            Collection<Long> hiddenAuthorIds,
             Long postId,
             LikeType type,
             Long cursorLikeCount,
@@ -129,7 +127,7 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                 .join(c.post, p).fetchJoin()
                 .where(
                         p.id.eq(postId)
-                                .and(visibleTo(userId))
+                                .and(visibleTo(hiddenAuthorIds))
                                 .and(ltCursor)
                 )
                 .orderBy(lc.desc(), c.createdAt.desc(), c.id.desc())
@@ -139,20 +137,10 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
         return toSlice(rows, pageable);
     }
 
-    /** 차단(양방향) 필터: userId가 null이면 필터 비활성화 */
-    private BooleanExpression visibleTo(Long userId) {
-        if (userId == null) return null;
-        BooleanExpression notMyBlocking = JPAExpressions.selectOne().from(bu1)
-                .where(bu1.user.id.eq(userId)
-                        .and(bu1.blocked.id.eq(u.id)))
-                .notExists();
-
-        BooleanExpression notTheirBlocking = JPAExpressions.selectOne().from(bu2)
-                .where(bu2.user.id.eq(u.id)
-                        .and(bu2.blocked.id.eq(userId)))
-                .notExists();
-
-        return notMyBlocking.and(notTheirBlocking);
+    /** 차단(양방향) 필터: BlockGraph가 계산한 숨김 사용자 ID가 없으면 필터 비활성화 */
+    private BooleanExpression visibleTo(Collection<Long> hiddenAuthorIds) {
+        if (hiddenAuthorIds == null || hiddenAuthorIds.isEmpty()) return null;
+        return u.id.notIn(hiddenAuthorIds);
     }
 
     /** 인기 정렬용 좋아요 수 서브쿼리 */
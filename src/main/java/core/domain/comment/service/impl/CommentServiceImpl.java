@@ -1,7 +1,9 @@
 package core.domain.comment.service.impl;
 
+import core.domain.user.dto.UserBlockedEvent;
 import core.domain.user.entity.BlockUser;
 import core.domain.user.repository.BlockRepository;
+import core.domain.user.service.BlockGraph;
 import core.global.service.ForbiddenWordService;
 import core.domain.comment.dto.CommentItem;
 import core.domain.comment.dto.CommentUpdateRequest;
@@ -12,6 +14,7 @@ import core.domain.comment.repository.CommentRepository;
 import core.domain.comment.service.CommentService;
 import core.domain.post.entity.Post;
 import core.domain.post.repository.PostRepository;
+import core.domain.post.repository.PostStatsRepository;
 import core.domain.user.entity.User;
 import core.domain.user.repository.UserRepository;
 import core.global.enums.*;
@@ -23,6 +26,7 @@ import core.global.pagination.CursorCodec;
 import core.global.pagination.CursorPageResponse;
 import io.micrometer.common.lang.Nullable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -41,11 +45,14 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostStatsRepository postStatsRepository;
     private final UserRepository userRepository;
     private final ImageRepository imageRepository;
     private final LikeRepository likeRepository;
     private final ForbiddenWordService forbiddenWordService;
     private final BlockRepository blockRepository;
+    private final BlockGraph blockGraph;
+    private final ApplicationEventPublisher publisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -82,17 +89,19 @@ public class CommentServiceImpl implements CommentService {
         ));
         Pageable pageablePopular = PageRequest.of(0, pageSize);
 
+        List<Long> hidden = blockGraph.hiddenIds(myId);
+
         Slice<Comment> slice;
         if (sort == SortOption.POPULAR) {
             slice = (cursorId == null || cursorLikeCount == null || cursorCreatedAt == null)
-                    ? commentRepository.findPopularByPostId(myId, postId, LikeType.COMMENT, pageablePopular)
+                    ? commentRepository.findPopularByPostId(hidden, postId, LikeType.COMMENT, pageablePopular)
                     : commentRepository.findPopularByCursor(
-                    myId, postId, LikeType.COMMENT, cursorLikeCount, cursorCreatedAt, cursorId, pageablePopular
+                    hidden, postId, LikeType.COMMENT, cursorLikeCount, cursorCreatedAt, cursorId, pageablePopular
             );
         } else {
             slice = (cursorId == null || cursorCreatedAt == null)
-                    ? commentRepository.findByPostId(myId, postId, pageableLatest)
-                    : commentRepository.findCommentByCursor(myId, postId, cursorCreatedAt, cursorId, pageableLatest);
+                    ? commentRepository.findByPostId(hidden, postId, pageableLatest)
+                    : commentRepository.findCommentByCursor(hidden, postId, cursorCreatedAt, cursorId, pageableLatest);
         }
 
         List<Comment> rows = slice.getContent();
@@ -183,6 +192,7 @@ public class CommentServiceImpl implements CommentService {
                     : Comment.createReplyComment(post, user, request.comment(), request.anonymous(), parent);
 
             commentRepository.save(toSave);
+            postStatsRepository.addCommentCount(post.getId(), 1);
         } catch (IllegalArgumentException e) {
             throw new BusinessException(ErrorCode.INVALID_COMMENT_INPUT);
         }
@@ -236,8 +246,10 @@ public class CommentServiceImpl implements CommentService {
         if (hasAliveChildren) {
             comment.markDeleted(email);
         } else {
+            Long postId = comment.getPost().getId();
             commentRepository.delete(comment);
-            cleanupIfNoChildren(comment.getParent());
+            int removed = 1 + cleanupIfNoChildren(comment.getParent());
+            postStatsRepository.addCommentCount(postId, -removed);
         }
     }
 
@@ -319,16 +331,19 @@ public class CommentServiceImpl implements CommentService {
         }
 
         blockRepository.save(new BlockUser(me, blockedUser));
+        publisher.publishEvent(new UserBlockedEvent(me.getId(), blockedUser.getId()));
     }
 
 
-    private void cleanupIfNoChildren(Comment parent) {
-        if (parent == null) return;
+    /** 삭제된(soft) 조상 댓글을 정리하고, 실제로 삭제한 행 수를 반환 */
+    private int cleanupIfNoChildren(Comment parent) {
+        if (parent == null) return 0;
         if (parent.isDeleted() && commentRepository.countByParentId(parent.getId()) == 0) {
             Comment grand = parent.getParent();
             commentRepository.delete(parent);
-            cleanupIfNoChildren(grand);
+            return 1 + cleanupIfNoChildren(grand);
         }
+        return 0;
     }
 
 
@@ -1,5 +1,6 @@
 package core.domain.post.controller;
 
+import core.global.pagination.CursorPageResponse;
 import core.global.search.dto.SearchResultView;
 import core.global.search.service.PostSearchService;
 import core.global.search.service.PostSearchSuggestService;
@@ -9,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -28,9 +30,20 @@ public class PostSearchController {
         return searchService.search(q, boardId);
     }
 
+    /** 무한스크롤: 응답의 nextCursor를 다음 호출의 cursor로 그대로 전달 */
+    @GetMapping("/{boardId}/posts/page")
+    public CursorPageResponse<SearchResultView> searchPostsPage(
+            @RequestParam String q,
+            @PathVariable Long boardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return searchService.searchPage(q, boardId, cursor, size);
+    }
+
     @GetMapping("/{boardId}/suggest")
-    public List<String> suggestByBoard(@PathVariable Long boardId,
-                                       @RequestParam("q") String q) {
+    public CompletableFuture<List<String>> suggestByBoard(@PathVariable Long boardId,
+                                                          @RequestParam("q") String q) {
         return suggestService.suggest(q, boardId);
     }
 
@@ -0,0 +1,18 @@
+package core.domain.post.dto;
+
+import core.domain.board.dto.BoardItem;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 뷰어와 무관한 피드 페이지 (캐시 단위).
+ * likedByMe는 모두 false이며, 차단 필터링을 위해 게시글별 작성자 ID를 함께 보관합니다.
+ */
+public record FeedPage(
+        List<BoardItem> items,
+        boolean hasNext,
+        String nextCursor,
+        Map<Long, Long> authorIds
+) {
+}
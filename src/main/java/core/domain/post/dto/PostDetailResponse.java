@@ -48,4 +48,8 @@ public record PostDetailResponse(
         @Schema(description = "이미지 수", example = "3")
         Integer imageCount
 ) {
+    public PostDetailResponse withViewCount(Long viewCount) {
+        return new PostDetailResponse(postId, content, authorName, boardCategory, createdTime, link,
+                isLiked, likeCount, commentCount, viewCount, userImageUrl, contentImageUrls, imageCount);
+    }
 }
@@ -0,0 +1,10 @@
+package core.domain.post.dto;
+
+/**
+ * 상세 조회 단건 결과. 차단 여부 판정을 위해 작성자 ID를 함께 돌려줍니다.
+ */
+public record PostDetailView(
+        Long authorId,
+        PostDetailResponse detail
+) {
+}
@@ -0,0 +1,9 @@
+package core.domain.post.dto;
+
+/**
+ * ES 장애 시 Postgres 전문 검색 결과 (정렬 순서 그대로, 본문은 findPostsByIdsForSearch로 다시 조회)
+ */
+public record PostSearchHit(
+        Long postId,
+        Long authorId
+) {}
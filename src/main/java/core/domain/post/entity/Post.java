@@ -32,6 +32,8 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 public class Post {
+    public static final int PREVIEW_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "post_id")
@@ -48,6 +50,10 @@ public class Post {
     @Column(name = "post_content", columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    // 목록용 미리보기 (본문 앞 200자). 목록 쿼리가 TEXT 본문을 읽지 않도록 쓰기 시점에 계산
+    @Column(name = "preview", length = PREVIEW_LENGTH)
+    private String preview;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private Instant createdAt;
@@ -70,6 +76,7 @@ public class Post {
         this.author = author;
         this.board = board;
         this.content = request.content();
+        this.preview = previewOf(request.content());
         this.anonymous = request.isAnonymous() != null ? request.isAnonymous() : false;
         this.checkCount = 0L;
     }
@@ -78,15 +85,24 @@ public class Post {
         this.author=user;
         this.board = board;
         this.content = request.content();
+        this.preview = previewOf(request.content());
         this.anonymous = false;
         this.checkCount = 0L;
     }
 
     public void changeContent(String content) {
         this.content = content;
+        this.preview = previewOf(content);
     }
 
     public void changeCheckCount() {
         this.checkCount = this.checkCount + 1;
     }
+
+    /** 서로게이트 쌍이 잘리지 않도록 코드포인트 기준으로 자릅니다. */
+    public static String previewOf(String content) {
+        if (content == null) return null;
+        if (content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) return content;
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH));
+    }
 }
@@ -0,0 +1,95 @@
+package core.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 게시글 집계 프로젝션(post_stats).
+ * 피드/내 글/검색 수화 쿼리가 상관 서브쿼리 대신 읽는 비정규화 카운터입니다.
+ * 좋아요/댓글/이미지 쓰기 경로에서 같은 트랜잭션으로 갱신하고, PostStatsReconciler가 드리프트를 보정합니다.
+ * popular_score는 PopularScoreRefresher가 주기적으로 다시 계산하며, 인기 윈도우를 벗어나면 null이 됩니다.
+ * suggest_weight는 SuggestWeightRefresher가 ES posts_suggest에 마지막으로 반영한 자동완성 가중치이고,
+ * suggest_dirty는 그 뒤 조회수가 바뀌었다는 표시입니다.
+ * signal_*는 PostSignalSync가 ES에 마지막으로 보낸 좋아요/댓글 수입니다.
+ */
+@Entity
+@Table(
+        name = "post_stats",
+        indexes = {
+                @Index(
+                        name = "idx_post_stats_board_popular",
+                        columnList = "board_id, popular_score DESC, post_id DESC"
+                ),
+                @Index(
+                        name = "idx_post_stats_popular",
+                        columnList = "popular_score DESC, post_id DESC"
+                )
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostStats {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount = 0L;
+
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount = 0L;
+
+    @Column(name = "image_count", nullable = false)
+    private Integer imageCount = 0;
+
+    @Column(name = "thumbnail_url", length = 150)
+    private String thumbnailUrl;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(name = "post_created_at")
+    private Instant postCreatedAt;
+
+    @Column(name = "popular_score")
+    private Long popularScore;
+
+    // 점수 계산 시점의 조회수 (post.check_count와 다르면 재계산 대상)
+    @Column(name = "score_views")
+    private Long scoreViews;
+
+    @Column(name = "score_computed_at")
+    private Instant scoreComputedAt;
+
+    @Column(name = "suggest_weight")
+    private Integer suggestWeight;
+
+    // 가중치 계산 시점의 조회수 (post.check_count와 다르면 재계산 대상)
+    @Column(name = "suggest_views")
+    private Long suggestViews;
+
+    // 조회수 flush가 세우고 SuggestWeightRefresher가 반영 후 내림 (부분 인덱스로 후보만 찾기 위함)
+    @Column(name = "suggest_dirty")
+    private Boolean suggestDirty;
+
+    @Column(name = "signal_likes")
+    private Long signalLikes;
+
+    @Column(name = "signal_comments")
+    private Long signalComments;
+
+    public PostStats(Post post) {
+        this.postId = post.getId();
+        this.boardId = post.getBoard().getId();
+        this.postCreatedAt = post.getCreatedAt();
+        this.updatedAt = Instant.now();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,7 +17,45 @@ public interface PostRepository extends JpaRepository<Post, Long> , PostReposito
 
     List<Post> findAllByAuthorId(Long authorId);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update Post p set p.checkCount = p.checkCount + 1 where p.id = :postId")
-    int incrementViewCount(@Param("postId") Long postId);
+    /** post_id 키셋 스캔 (OFFSET 없이 afterId 다음부터 limit건) */
+    @Query(value = """
+            select p.post_id
+              from post p
+             where p.post_id > :afterId
+             order by p.post_id
+             limit :limit
+            """, nativeQuery = true)
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * ES 장애 시 서제스트 대체 경로. idx_post_content_trgm(lower(post_content))로 접두 매칭합니다.
+     * :prefixPattern은 LIKE 특수문자를 이스케이프한 뒤 '%'를 붙인 값입니다.
+     */
+    @Query(value = """
+            select lower(p.post_content)
+              from post p
+             where lower(p.post_content) like :prefixPattern escape '\\'
+               and (cast(:boardId as bigint) is null or p.board_id = cast(:boardId as bigint))
+             order by p.check_count desc, p.post_id desc
+             limit :limit
+            """, nativeQuery = true)
+    List<String> suggestByPrefix(@Param("prefixPattern") String prefixPattern,
+                                 @Param("boardId") Long boardId,
+                                 @Param("limit") int limit);
+
+    /**
+     * preview가 비어 있는 게시글을 post_id 순으로 최대 :batchSize건 채웁니다.
+     * left()는 문자(코드포인트) 단위라 Post.previewOf와 같은 결과를 냅니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update post
+               set preview = left(post_content, 200)
+             where post_id in (select post_id from post
+                                where preview is null
+                                order by post_id
+                                limit :batchSize)
+            """, nativeQuery = true)
+    int backfillPreviews(@Param("batchSize") int batchSize);
 }
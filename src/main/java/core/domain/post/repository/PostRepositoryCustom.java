@@ -1,27 +1,41 @@
 package core.domain.post.repository;
 
 import core.domain.board.dto.BoardItem;
-import core.domain.post.dto.PostDetailResponse;
+import core.domain.post.dto.PostDetailView;
+import core.domain.post.dto.PostSearchHit;
 import core.domain.post.dto.UserPostItem;
+import core.global.enums.TextSearchMode;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 목록 조회는 차단 필터를 적용하지 않습니다. 호출 측에서 BlockGraph로 걸러냅니다.
+ * 검색어(q)는 mode에 따라 pg_trgm 부분 일치 또는 전문 검색(tsvector) 인덱스로 매칭합니다.
+ * searchFullText는 ES 장애 시 검색 대체 경로로, 피드의 FULL_TEXT 필터와 같은 fts_match 식을 씁니다.
+ */
 public interface PostRepositoryCustom {
         List<BoardItem> findLatestPosts(Long userId, Long boardId,
                                         Instant cursorCreatedAt,
                                         Long cursorId,
                                         int size,
-                                        String q);
+                                        String q,
+                                        TextSearchMode mode);
 
-        List<BoardItem> findPopularPosts(Long userId, Long boardId, Instant since, Long cursorScore, Long cursorId, int size, String q);
+        List<BoardItem> findPopularPosts(Long userId, Long boardId, Instant since, Long cursorScore, Long cursorId, int size, String q, TextSearchMode mode);
 
-        PostDetailResponse findPostDetail(String email, Long postId);
+        PostDetailView findPostDetailView(Long viewerId, Long postId);
 
         List<UserPostItem> findMyPostsFirstByEmail(String email, int limitPlusOne);
 
         List<UserPostItem> findMyPostsNextByEmail(String email, Instant cursorCreatedAt, Long cursorId, int limitPlusOne);
 
-        List<BoardItem> findPostsByIdsForSearch(Long viewerId, List<Long> ids);
+        List<BoardItem> findPostsByIdsForSearch(Long viewerId, List<Long> ids, Collection<Long> hiddenAuthorIds);
+
+        Map<Long, Long> findAuthorIdsByPostIds(Collection<Long> postIds);
+
+        List<PostSearchHit> searchFullText(String q, Long boardId, int limit);
 
 }
@@ -0,0 +1,199 @@
+package core.domain.post.repository;
+
+import core.domain.post.entity.PostStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            insert into post_stats (post_id, like_count, comment_count, image_count, updated_at)
+            values (:postId, greatest(:delta, 0), 0, 0, now())
+            on conflict (post_id) do update
+               set like_count = greatest(post_stats.like_count + :delta, 0),
+                   updated_at = now()
+            """, nativeQuery = true)
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            insert into post_stats (post_id, like_count, comment_count, image_count, updated_at)
+            values (:postId, 0, greatest(:delta, 0), 0, now())
+            on conflict (post_id) do update
+               set comment_count = greatest(post_stats.comment_count + :delta, 0),
+                   updated_at = now()
+            """, nativeQuery = true)
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            insert into post_stats (post_id, like_count, comment_count, image_count, thumbnail_url, updated_at)
+            values (:postId, 0, 0, :imageCount, :thumbnailUrl, now())
+            on conflict (post_id) do update
+               set image_count = excluded.image_count,
+                   thumbnail_url = excluded.thumbnail_url,
+                   updated_at = now()
+            """, nativeQuery = true)
+    int updateImages(@Param("postId") Long postId,
+                     @Param("imageCount") int imageCount,
+                     @Param("thumbnailUrl") String thumbnailUrl);
+
+    @Query(value = """
+            select p.post_id
+            from post p
+            where p.post_id > :afterId
+            order by p.post_id
+            limit :batchSize
+            """, nativeQuery = true)
+    List<Long> findPostIdsAfter(@Param("afterId") Long afterId, @Param("batchSize") int batchSize);
+
+    /** post_stats 행이 아직 없는 게시글 (기동 시 백필용) */
+    @Query(value = """
+            select p.post_id
+            from post p
+            where p.post_id > :afterId
+              and not exists (select 1 from post_stats s where s.post_id = p.post_id)
+            order by p.post_id
+            limit :batchSize
+            """, nativeQuery = true)
+    List<Long> findPostIdsWithoutStatsAfter(@Param("afterId") Long afterId, @Param("batchSize") int batchSize);
+
+    /**
+     * 대상 게시글의 집계를 원본 테이블(likes/comment/image)에서 다시 계산해 덮어씁니다.
+     * 값이 달라진 행만 갱신되므로 반환값이 곧 보정된 드리프트 건수입니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into post_stats (post_id, like_count, comment_count, image_count, thumbnail_url, updated_at,
+                                    board_id, post_created_at)
+            select p.post_id,
+                   (select count(*) from likes l
+                     where l.type = :likeType and l.related_id = p.post_id),
+                   (select count(*) from comment c
+                     where c.post_id = p.post_id),
+                   (select count(*) from image i
+                     where i.image_type = :imageType and i.related_id = p.post_id),
+                   (select i.url from image i
+                     where i.image_type = :imageType and i.related_id = p.post_id
+                     order by i.order_index, i.image_id
+                     limit 1),
+                   now(),
+                   p.board_id,
+                   p.created_at
+            from post p
+            where p.post_id in (:postIds)
+            on conflict (post_id) do update
+               set like_count = excluded.like_count,
+                   comment_count = excluded.comment_count,
+                   image_count = excluded.image_count,
+                   thumbnail_url = excluded.thumbnail_url,
+                   board_id = excluded.board_id,
+                   post_created_at = excluded.post_created_at,
+                   updated_at = now()
+             where post_stats.like_count <> excluded.like_count
+                or post_stats.comment_count <> excluded.comment_count
+                or post_stats.image_count <> excluded.image_count
+                or post_stats.thumbnail_url is distinct from excluded.thumbnail_url
+                or post_stats.board_id is distinct from excluded.board_id
+                or post_stats.post_created_at is distinct from excluded.post_created_at
+            """, nativeQuery = true)
+    int reconcile(@Param("postIds") List<Long> postIds,
+                  @Param("likeType") int likeType,
+                  @Param("imageType") int imageType);
+
+    /**
+     * 인기 점수를 재계산합니다. 윈도우(:since 이후) 안에서 아직 계산되지 않았거나,
+     * 마지막 계산 이후 좋아요/댓글(updated_at)이나 조회수가 바뀌었거나,
+     * 최신성 감쇠 반영 주기(:staleBefore)를 넘긴 행만 최대 :batchSize건 갱신합니다.
+     * 점수식은 recency*3 + views + likes*3 + comments*3 (recency = round(1000 * exp(-ageHours / 24))).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            with target as (
+                select s.post_id
+                from post_stats s
+                join post p on p.post_id = s.post_id
+                where p.created_at >= :since
+                  and (s.score_computed_at is null
+                       or s.updated_at > s.score_computed_at
+                       or s.score_views is distinct from p.check_count
+                       or s.score_computed_at < :staleBefore)
+                order by s.post_id
+                limit :batchSize
+            )
+            update post_stats s
+               set board_id = p.board_id,
+                   post_created_at = p.created_at,
+                   score_views = p.check_count,
+                   popular_score =
+                       cast(round(1000 * exp(-(extract(epoch from (now() - p.created_at)) / 3600.0) / 24.0)) as bigint) * 3
+                       + p.check_count
+                       + s.like_count * 3
+                       + s.comment_count * 3,
+                   score_computed_at = now()
+              from post p, target t
+             where s.post_id = t.post_id
+               and p.post_id = s.post_id
+            """, nativeQuery = true)
+    int refreshPopularScores(@Param("since") Instant since,
+                             @Param("staleBefore") Instant staleBefore,
+                             @Param("batchSize") int batchSize);
+
+    /**
+     * 인기 윈도우를 벗어난 게시글의 점수를 비워 인덱스 범위 스캔 대상에서 제외합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update post_stats
+               set popular_score = null
+             where popular_score is not null
+               and post_created_at < :since
+            """, nativeQuery = true)
+    int expirePopularScores(@Param("since") Instant since);
+
+    /**
+     * ES에 반영된 신호 기록을 비워 PostSignalSync가 모든 글을 다시 보내게 합니다. (새 인덱스로 교체된 뒤)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update post_stats
+               set signal_likes = null,
+                   signal_comments = null
+             where signal_likes is not null
+                or signal_comments is not null
+            """, nativeQuery = true)
+    int resetSignals();
+
+    /**
+     * 전체 INDEX로 likeCount/commentCount가 빠진 문서의 신호 기록을 비워 PostSignalSync가 다시 보내게 합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update post_stats
+               set signal_likes = null,
+                   signal_comments = null
+             where post_id in (:postIds)
+               and (signal_likes is not null or signal_comments is not null)
+            """, nativeQuery = true)
+    int resetSignals(@Param("postIds") List<Long> postIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            delete from post_stats s
+            where not exists (select 1 from post p where p.post_id = s.post_id)
+            """, nativeQuery = true)
+    int deleteOrphans();
+}
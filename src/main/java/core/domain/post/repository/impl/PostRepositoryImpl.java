@@ -1,6 +1,5 @@
 package core.domain.post.repository.impl;
 
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.*;
@@ -8,24 +7,32 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import core.domain.board.dto.BoardItem;
 import core.domain.board.entity.QBoard;
-import core.domain.comment.entity.QComment;
 import core.domain.post.dto.PostDetailResponse;
+import core.domain.post.dto.PostDetailView;
+import core.domain.post.dto.PostSearchHit;
 import core.domain.post.dto.UserPostItem;
 import core.domain.post.entity.QPost;
+import core.domain.post.entity.QPostStats;
 import core.domain.post.repository.PostRepositoryCustom;
-import core.domain.user.entity.QBlockUser;
 import core.domain.user.entity.QUser;
 import core.global.enums.BoardCategory;
 import core.global.enums.ImageType;
 import core.global.enums.LikeType;
+import core.global.enums.TextSearchMode;
 import core.global.image.entity.QImage;
 import core.global.like.entity.QLike;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Array;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -34,24 +41,25 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     private static final QUser user = QUser.user;
     private static final QLike like = QLike.like;
     private static final QBoard board = QBoard.board;
-    private static final QComment comment = QComment.comment;
+    private static final QPostStats stats = QPostStats.postStats;
+    private static final QImage avatar = new QImage("avatar");
     private static final ImageType IMAGE_TYPE_POST = ImageType.POST;
     private static final ImageType IMAGE_TYPE_USER = ImageType.USER;
     private static final LikeType LIKE_TYPE_POST = LikeType.POST;
 
     private final JPAQueryFactory query;
+    private final NamedParameterJdbcTemplate jdbc;
 
     @Override
     public List<BoardItem> findLatestPosts(Long userId, Long boardId,
                                            Instant cursorCreatedAt,
                                            Long cursorId,
                                            int size,
-                                           String q) {
+                                           String q,
+                                           TextSearchMode mode) {
 
         BooleanExpression boardFilter = (boardId == null) ? null : post.board.id.eq(boardId);
-        BooleanExpression search = (q == null || q.isBlank())
-                ? null
-                : post.content.containsIgnoreCase(q);
+        BooleanExpression search = textFilter(q, mode);
 
         BooleanExpression ltCursor = (cursorCreatedAt == null)
                 ? null
@@ -62,28 +70,10 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
 
         Expression<String> authorNameExpr = getAuthorName();
 
-        Expression<String> preview = preview200();
-
-        Expression<Long> likeCountExpr = likeCountExpr();
-
-        Expression<Long> commentCountExpr = commentCountExpr();
+        Expression<String> preview = post.preview;
 
         Expression<Boolean> likedByMe = likedByViewerId(userId);
 
-        QImage u = new QImage("u");
-        Expression<String> userImageUrlExpr =
-                JPAExpressions
-                        .select(u.url)
-                        .from(u)
-                        .where(
-                                u.imageType.eq(IMAGE_TYPE_USER)
-                                        .and(u.relatedId.eq(user.id))
-                        );
-
-        Expression<String> contentThumbnailUrlExpr = firstPostImageUrlExpr();
-
-        BooleanExpression visibleToMe = visibleTo(userId);
-
         return query
                 .select(Projections.constructor(
                         BoardItem.class,
@@ -93,91 +83,50 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                         board.category,
                         post.createdAt,
                         likedByMe,
-                        likeCountExpr,
-                        commentCountExpr,
+                        statLikeCount(),
+                        statCommentCount(),
                         post.checkCount,
-                        userImageUrlExpr,
-                        contentThumbnailUrlExpr,
-                        postImageCountExpr(),
+                        avatar.url,
+                        stats.thumbnailUrl,
+                        statImageCount(),
                         Expressions.numberTemplate(Long.class, "NULL")
                 ))
                 .from(post)
                 .join(post.author, user)
                 .join(post.board, board)
-                .where(allOf(boardFilter, search, ltCursor, visibleToMe))
+                .leftJoin(stats).on(stats.postId.eq(post.id))
+                .leftJoin(avatar).on(avatarOf(user.id))
+                .where(allOf(boardFilter, search, ltCursor))
                 .orderBy(post.createdAt.desc())
                 .limit(Math.min(size, 50) + 1L)
                 .fetch();
     }
 
     @Override
-    public List<BoardItem> findPopularPosts(Long userId, Long boardId, Instant since, Long cursorScore, Long cursorId, int size, String q) {
-        // ── 필터
-        BooleanExpression boardFilter = (boardId == null) ? null : post.board.id.eq(boardId);
-        BooleanExpression sinceFilter = (since == null) ? null : post.createdAt.goe(since);
-        BooleanExpression search = (q == null || q.isBlank()) ? null : post.content.containsIgnoreCase(q);
-
-        // ── 집계
-        Expression<Long> likeCountSub = likeCountExpr();
-
-        Expression<Long> commentCountSub = commentCountExpr();
-
-        NumberExpression<Long> likes = Expressions.numberTemplate(Long.class, "({0})", likeCountSub);
-        NumberExpression<Long> comments = Expressions.numberTemplate(Long.class, "({0})", commentCountSub);
-        NumberExpression<Long> views = post.checkCount;
-
-        // ── 최신성(나이 시간)
-        NumberExpression<Double> ageHours =
-                Expressions.numberTemplate(
-                        Double.class,
-                        "(extract(epoch from current_timestamp) - extract(epoch from {0})) / 3600.0",
-                        post.createdAt
-                );
-
-        NumberExpression<Long> recencyPoints =
-                Expressions.numberTemplate(
-                        Long.class,
-                        "cast(round(1000 * exp(-(({0}) / 24.0)), 0) as long)",
-                        ageHours
-                );
-
-        // ── 최종 점수(정수)
-        NumberExpression<Long> score =
-                recencyPoints.multiply(3L)
-                        .add(views.multiply(1L))
-                        .add(likes.multiply(3L))
-                        .add(comments.multiply(3L));
+    public List<BoardItem> findPopularPosts(Long userId, Long boardId, Instant since, Long cursorScore, Long cursorId, int size, String q, TextSearchMode mode) {
+        // ── 필터: post_stats(board_id, popular_score desc, post_id desc) 인덱스 범위 스캔
+        BooleanExpression boardFilter = (boardId == null) ? null : stats.boardId.eq(boardId);
+        BooleanExpression scored = stats.popularScore.isNotNull();
+        BooleanExpression sinceFilter = (since == null) ? null : stats.postCreatedAt.goe(since);
+        BooleanExpression search = textFilter(q, mode);
 
         // ── 커서 조건(무한스크롤)
         BooleanExpression ltCursor = null;
         if (cursorScore != null) {
             BooleanExpression tieBreaker =
                     (cursorId != null)
-                            ? post.id.lt(cursorId)
+                            ? stats.postId.lt(cursorId)
                             : Expressions.FALSE;
 
-            ltCursor = score.lt(cursorScore)
-                    .or(score.eq(cursorScore).and(tieBreaker));
+            ltCursor = stats.popularScore.lt(cursorScore)
+                    .or(stats.popularScore.eq(cursorScore).and(tieBreaker));
         }
 
         Expression<Boolean> likedByMe = likedByViewerId(userId);
 
         Expression<String> authorNameExpr = getAuthorName();
 
-        Expression<String> preview = preview200();
-
-        // Images
-        QImage u = new QImage("u");
-        Expression<String> userImageUrlExpr =
-                JPAExpressions
-                        .select(u.url)
-                        .from(u)
-                        .where(u.imageType.eq(IMAGE_TYPE_USER)
-                                .and(u.relatedId.eq(user.id)));
-
-        Expression<String> contentThumbnailUrlExpr = firstPostImageUrlExpr();
-
-        BooleanExpression visibleToMe = visibleTo(userId);
+        Expression<String> preview = post.preview;
 
         return query
                 .select(Projections.constructor(
@@ -188,128 +137,102 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                         board.category,
                         post.createdAt,
                         likedByMe,
-                        likes,
-                        comments,
-                        views,
-                        userImageUrlExpr,
-                        contentThumbnailUrlExpr,
-                        postImageCountExpr(),
-                        score
+                        stats.likeCount,
+                        stats.commentCount,
+                        post.checkCount,
+                        avatar.url,
+                        stats.thumbnailUrl,
+                        stats.imageCount,
+                        stats.popularScore
                 ))
-                .from(post)
+                .from(stats)
+                .join(post).on(post.id.eq(stats.postId))
                 .join(post.author, user)
                 .join(post.board, board)
-                .where(allOf(boardFilter, sinceFilter, search, ltCursor, visibleToMe))
+                .leftJoin(avatar).on(avatarOf(user.id))
+                .where(allOf(boardFilter, scored, sinceFilter, search, ltCursor))
                 .orderBy(
-                        score.desc(),
-                        post.id.desc()
+                        stats.popularScore.desc(),
+                        stats.postId.desc()
                 )
                 .limit(Math.min(size, 50) + 1L)
                 .fetch();
 
     }
 
+    /**
+     * 상세 화면 전체를 한 문장으로 읽습니다.
+     * 이미지 URL은 행을 늘리는 조인 대신 array_agg(order_index 순)로 모으고,
+     * 카운트는 post_stats, 좋아요 여부는 viewer userId로 판정합니다.
+     */
     @Override
-    public PostDetailResponse findPostDetail(String email, Long postId) {
-        QImage userImage = new QImage("u");
-
-        Expression<Long> likeCountExpr = likeCountExpr();
-        Expression<Long> commentCountExpr = commentCountExpr();
-        StringExpression userNameExpr = getAuthorName();
-
-        Expression<String> userImageUrlExpr = new CaseBuilder()
-                .when(post.anonymous.isTrue()).then(Expressions.nullExpression(String.class))
-                .otherwise(
-                        JPAExpressions.select(userImage.url)
-                                .from(userImage)
-                                .where(
-                                        userImage.imageType.eq(IMAGE_TYPE_USER)
-                                                .and(userImage.relatedId.eq(user.id))
-                                )
-                );
-
-        QImage image = QImage.image;
-        QImage image2 = new QImage("image2");
-
-        Expression<Integer> imageCountExpr =
-                JPAExpressions.select(image2.id.count().intValue())
-                        .from(image2)
-                        .where(
-                                image2.imageType.eq(IMAGE_TYPE_POST)
-                                        .and(image2.relatedId.eq(post.id))
-                        );
-
-        Expression<String> linkExpr = Expressions.constant("CHAT LINK");
-
-        Expression<Boolean> likedByMe = likedByViewerEmail(email);
-
-        List<Tuple> rows = query
-                .select(
-                        post.id,
-                        post.content,
-                        userNameExpr,
-                        board.category,
-                        post.createdAt,
-                        linkExpr,
-                        likedByMe,
-                        likeCountExpr,
-                        commentCountExpr,
-                        post.checkCount,
-                        userImageUrlExpr,
-                        image.url,
-                        imageCountExpr
-                )
-                .from(post)
-                .join(post.author, user)
-                .join(post.board, board)
-                .leftJoin(image).on(
-                        image.imageType.eq(IMAGE_TYPE_POST)
-                                .and(image.relatedId.eq(post.id))
-                )
-                .where(post.id.eq(postId))
-                .orderBy(image.id.asc())
-                .fetch();
-
-        if (rows.isEmpty()) {
-            return null;
-        }
-
-        // 첫 행에서 단건 필드 뽑기
-        Tuple t0 = rows.get(0);
-
-        Long id = t0.get(post.id);
-        String content = t0.get(post.content);
-        String userName = t0.get(userNameExpr);
-        BoardCategory cat = t0.get(board.category);
-        Instant createdAt = t0.get(post.createdAt);
-        String link = t0.get(linkExpr);
-        Boolean liked = t0.get(likedByMe);
-        Long likeCount = t0.get(likeCountExpr);
-        Long commentCount = t0.get(commentCountExpr);
-        Long viewCount = t0.get(post.checkCount);
-        String userImageUrl = t0.get(userImageUrlExpr);
-        Integer imageCount = t0.get(imageCountExpr);
-
-        List<String> contentImageUrls = rows.stream()
-                .map(r -> r.get(image.url))
-                .filter(Objects::nonNull)
-                .toList();
-
-        return new PostDetailResponse(
-                id,
-                content,
-                userName,
-                cat,
-                createdAt,
-                link,
-                liked,
-                likeCount,
-                commentCount,
-                viewCount,
-                userImageUrl,
-                contentImageUrls,
-                imageCount
-        );
+    public PostDetailView findPostDetailView(Long viewerId, Long postId) {
+        String sql = """
+                select p.post_id,
+                       p.post_content,
+                       p.is_anonymous,
+                       p.created_at,
+                       p.check_count,
+                       u.user_id      as author_id,
+                       u.last_name,
+                       u.first_name,
+                       b.board_category,
+                       coalesce(s.like_count, 0)    as like_count,
+                       coalesce(s.comment_count, 0) as comment_count,
+                       exists(select 1 from likes l
+                               where l.type = :likeType
+                                 and l.related_id = p.post_id
+                                 and l.user_id = :viewerId) as liked,
+                       (select a.url from image a
+                         where a.image_type = :userImageType
+                           and a.related_id = u.user_id
+                         order by a.order_index
+                         limit 1) as avatar_url,
+                       (select array_agg(i.url order by i.order_index, i.image_id) from image i
+                         where i.image_type = :postImageType
+                           and i.related_id = p.post_id) as image_urls
+                from post p
+                join users u on u.user_id = p.user_id
+                join board b on b.board_id = p.board_id
+                left join post_stats s on s.post_id = p.post_id
+                where p.post_id = :postId
+                """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("postId", postId)
+                .addValue("viewerId", viewerId)
+                .addValue("likeType", LIKE_TYPE_POST.ordinal())
+                .addValue("userImageType", IMAGE_TYPE_USER.ordinal())
+                .addValue("postImageType", IMAGE_TYPE_POST.ordinal());
+
+        List<PostDetailView> rows = jdbc.query(sql, params, (rs, i) -> {
+            boolean anonymous = rs.getBoolean("is_anonymous");
+            String authorName = anonymous
+                    ? "Anonymity"
+                    : Objects.toString(rs.getString("last_name"), "") + " " + Objects.toString(rs.getString("first_name"), "");
+
+            Array urlArray = rs.getArray("image_urls");
+            List<String> imageUrls = (urlArray == null) ? List.of() : List.of((String[]) urlArray.getArray());
+
+            PostDetailResponse detail = new PostDetailResponse(
+                    rs.getLong("post_id"),
+                    rs.getString("post_content"),
+                    authorName,
+                    BoardCategory.values()[rs.getInt("board_category")],
+                    rs.getTimestamp("created_at").toInstant(),
+                    "CHAT LINK",
+                    rs.getBoolean("liked"),
+                    rs.getLong("like_count"),
+                    rs.getLong("comment_count"),
+                    rs.getLong("check_count"),
+                    anonymous ? null : rs.getString("avatar_url"),
+                    imageUrls,
+                    imageUrls.size()
+            );
+            return new PostDetailView(rs.getLong("author_id"), detail);
+        });
+
+        return rows.isEmpty() ? null : rows.get(0);
     }
 
     @Override
@@ -321,17 +244,18 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .select(Projections.constructor(
                         UserPostItem.class,
                         post.id,
-                        preview200(),
+                        post.preview,
                         post.createdAt,
                         likedByMe,
-                        likeCountExpr(),
-                        commentCountExpr(),
+                        statLikeCount(),
+                        statCommentCount(),
                         post.checkCount,
-                        firstPostImageUrlExpr(),
-                        postImageCountExpr()
+                        stats.thumbnailUrl,
+                        statImageCount()
                 ))
                 .from(post)
                 .join(post.author, user)
+                .leftJoin(stats).on(stats.postId.eq(post.id))
                 .where(user.email.eq(email))
                 .orderBy(post.createdAt.desc(), post.id.desc())
                 .limit(limitPlusOne)
@@ -349,17 +273,18 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .select(Projections.constructor(
                         UserPostItem.class,
                         post.id,
-                        preview200(),
+                        post.preview,
                         post.createdAt,
                         likedByMe,
-                        likeCountExpr(),
-                        commentCountExpr(),
+                        statLikeCount(),
+                        statCommentCount(),
                         post.checkCount,
-                        firstPostImageUrlExpr(),
-                        postImageCountExpr()
+                        stats.thumbnailUrl,
+                        statImageCount()
                 ))
                 .from(post)
                 .join(post.author, user)
+                .leftJoin(stats).on(stats.postId.eq(post.id))
                 .where(user.email.eq(email).and(ltCursor))
                 .orderBy(post.createdAt.desc(), post.id.desc())
                 .limit(limitPlusOne)
@@ -367,23 +292,12 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
 
     @Override
-    public List<BoardItem> findPostsByIdsForSearch(Long viewerId, List<Long> ids) {
+    public List<BoardItem> findPostsByIdsForSearch(Long viewerId, List<Long> ids, Collection<Long> hiddenAuthorIds) {
         if (ids == null || ids.isEmpty()) return List.of();
 
-        Expression<String> preview = preview200();
-        Expression<Long> likeCountExpr = likeCountExpr();
-        Expression<Long> commentCountExpr = commentCountExpr();
+        Expression<String> preview = post.preview;
         Expression<Boolean> likedByMe = likedByViewerId(viewerId);
-        BooleanExpression visibleToMe = visibleTo(viewerId);
-
-        QImage uimg = new QImage("uimg");
-        Expression<String> userImageUrlExpr =
-                JPAExpressions.select(uimg.url)
-                        .from(uimg)
-                        .where(uimg.imageType.eq(IMAGE_TYPE_USER)
-                                .and(uimg.relatedId.eq(user.id)));
-
-        Expression<String> contentThumbUrlExpr = firstPostImageUrlExpr();
+        BooleanExpression visibleToMe = notAuthoredBy(hiddenAuthorIds);
 
         return query
                 .select(Projections.constructor(
@@ -394,62 +308,64 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                         board.category,
                         post.createdAt,
                         likedByMe,
-                        likeCountExpr,
-                        commentCountExpr,
+                        statLikeCount(),
+                        statCommentCount(),
                         post.checkCount,
-                        userImageUrlExpr,
-                        contentThumbUrlExpr,
-                        postImageCountExpr(),
+                        avatar.url,
+                        stats.thumbnailUrl,
+                        statImageCount(),
                         Expressions.numberTemplate(Long.class, "NULL")
                 ))
                 .from(post)
                 .join(post.author, user)
                 .join(post.board, board)
-                .where(post.id.in(ids).and(visibleToMe))
+                .leftJoin(stats).on(stats.postId.eq(post.id))
+                .leftJoin(avatar).on(avatarOf(user.id))
+                .where(allOf(post.id.in(ids), visibleToMe))
                 .fetch();
     }
 
-    private StringExpression makeGetName() {
-        return user.lastName.coalesce("")
-                .concat(" ")
-                .concat(user.firstName.coalesce(""));
-    }
-
-    private BooleanExpression visibleTo(Long userId) {
-        if (userId == null) return null; // 비로그인
+    @Override
+    public Map<Long, Long> findAuthorIdsByPostIds(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) return Map.of();
 
-        QBlockUser bu = QBlockUser.blockUser;
+        return query
+                .select(post.id, post.author.id)
+                .from(post)
+                .where(post.id.in(postIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(t -> t.get(post.id), t -> t.get(post.author.id)));
+    }
 
-        BooleanExpression notMyBlocking = JPAExpressions
-                .selectOne()
-                .from(bu)
-                .where(bu.user.id.eq(userId)
-                        .and(bu.blocked.id.eq(user.id))
-                )
-                .notExists();
+    @Override
+    public List<PostSearchHit> searchFullText(String q, Long boardId, int limit) {
+        BooleanExpression search = textFilter(q, TextSearchMode.FULL_TEXT);
+        if (search == null) return List.of();
 
-        BooleanExpression notTheirBlocking = JPAExpressions
-                .selectOne()
-                .from(bu)
-                .where(bu.user.id.eq(user.id)
-                        .and(bu.blocked.id.eq(userId))
+        return query
+                .select(Projections.constructor(PostSearchHit.class, post.id, post.author.id))
+                .from(post)
+                .where(search, boardId == null ? null : post.board.id.eq(boardId))
+                .orderBy(
+                        Expressions.numberTemplate(Double.class, "fts_rank({0}, {1})", post.content, q.trim()).desc(),
+                        post.createdAt.desc()
                 )
-                .notExists();
-
-        return notMyBlocking.and(notTheirBlocking);
+                .limit(limit)
+                .fetch();
     }
 
-    private Expression<Integer> postImageCountExpr() {
-        QImage i = new QImage("i");
-        return JPAExpressions
-                .select(i.id.countDistinct().intValue())
-                .from(i)
-                .where(
-                        i.imageType.eq(IMAGE_TYPE_POST)
-                                .and(i.relatedId.eq(post.id))
-                );
+    private StringExpression makeGetName() {
+        return user.lastName.coalesce("")
+                .concat(" ")
+                .concat(user.firstName.coalesce(""));
     }
 
+    // 🔹 차단 필터: BlockGraph가 계산한 숨김 사용자 ID 목록 (없으면 필터 없음)
+    private BooleanExpression notAuthoredBy(Collection<Long> hiddenAuthorIds) {
+        if (hiddenAuthorIds == null || hiddenAuthorIds.isEmpty()) return null;
+        return user.id.notIn(hiddenAuthorIds);
+    }
 
     private StringExpression getAuthorName() {
         return new CaseBuilder()
@@ -457,43 +373,33 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .otherwise(makeGetName());
     }
 
-    private Expression<String> preview200() {
-        return Expressions.stringTemplate("substring({0}, 1, 200)", post.content);
+    // 🔹 post_stats 프로젝션 (행이 아직 없으면 0)
+    private NumberExpression<Long> statLikeCount() {
+        return stats.likeCount.coalesce(0L);
     }
 
-    private Expression<String> firstPostImageUrlExpr() {
-        QImage pi1 = new QImage("pi1");
-        QImage pi2 = new QImage("pi2");
+    private NumberExpression<Long> statCommentCount() {
+        return stats.commentCount.coalesce(0L);
+    }
 
-        return JPAExpressions
-                .select(pi2.url)
-                .from(pi2)
-                .where(
-                        pi2.imageType.eq(IMAGE_TYPE_POST),
-                        pi2.relatedId.eq(post.id),
-                        pi2.id.eq(
-                                JPAExpressions
-                                        .select(pi1.id.min())
-                                        .from(pi1)
-                                        .where(
-                                                pi1.imageType.eq(IMAGE_TYPE_POST),
-                                                pi1.relatedId.eq(post.id)
-                                        )
-                        )
-                );
+    private NumberExpression<Integer> statImageCount() {
+        return stats.imageCount.coalesce(0);
     }
 
-    private Expression<Long> commentCountExpr() {
-        return JPAExpressions.select(comment.count())
-                .from(comment)
-                .where(comment.post.eq(post));
+    private BooleanExpression avatarOf(NumberPath<Long> userId) {
+        return avatar.imageType.eq(IMAGE_TYPE_USER)
+                .and(avatar.relatedId.eq(userId));
     }
 
-    private Expression<Long> likeCountExpr() {
-        return JPAExpressions.select(like.count())
-                .from(like)
-                .where(like.type.eq(LIKE_TYPE_POST)
-                        .and(like.relatedId.eq(post.id)));
+    // 🔹 검색어 필터: 식이 PostSearchIndexInitializer의 인덱스 정의와 같아야 인덱스를 탑니다
+    private BooleanExpression textFilter(String q, TextSearchMode mode) {
+        if (q == null || q.isBlank()) return null;
+        if (mode == TextSearchMode.FULL_TEXT) {
+            // to_tsvector('simple', post_content) @@ plainto_tsquery('simple', q) → idx_post_content_fts
+            return Expressions.booleanTemplate("fts_match({0}, {1})", post.content, q.trim()).isTrue();
+        }
+        // lower(post_content) like '%q%' → idx_post_content_trgm
+        return post.content.containsIgnoreCase(q.trim());
     }
 
     // 🔹 viewerId(로그인 유저 id)로 좋아요 여부
@@ -0,0 +1,47 @@
+package core.domain.post.scheduler;
+
+import core.domain.post.repository.PostStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularScoreRefresher {
+
+    public static final Duration POPULAR_WINDOW = Duration.ofDays(10);
+
+    // 입력 변화가 없어도 최신성 감쇠를 반영하기 위해 이 주기가 지나면 다시 계산
+    private static final Duration DECAY_REFRESH = Duration.ofMinutes(30);
+    private static final int BATCH_SIZE = 1000;
+
+    private final PostStatsRepository postStatsRepository;
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
+    public void refresh() {
+        Instant now = Instant.now();
+        Instant since = now.minus(POPULAR_WINDOW);
+        Instant staleBefore = now.minus(DECAY_REFRESH);
+
+        long refreshed = 0;
+        try {
+            int updated;
+            do {
+                updated = postStatsRepository.refreshPopularScores(since, staleBefore, BATCH_SIZE);
+                refreshed += updated;
+            } while (updated == BATCH_SIZE);
+
+            int expired = postStatsRepository.expirePopularScores(since);
+            if (refreshed > 0 || expired > 0) {
+                log.debug("popular_score refreshed={}, expired={}", refreshed, expired);
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh popular_score (refreshed so far={})", refreshed, e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package core.domain.post.scheduler;
+
+import core.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * post.preview 컬럼이 추가되기 전에 작성된 게시글을 배치로 채웁니다.
+ * 채울 행이 없으면 첫 배치에서 바로 끝나므로 매 기동마다 실행해도 무방합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostPreviewBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        try {
+            int updated;
+            do {
+                updated = postRepository.backfillPreviews(BATCH_SIZE);
+                total += updated;
+            } while (updated == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("post.preview backfilled: {}", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill post.preview (done so far={})", total, e);
+        }
+    }
+}
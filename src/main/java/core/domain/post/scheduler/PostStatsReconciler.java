@@ -0,0 +1,70 @@
+package core.domain.post.scheduler;
+
+import core.domain.post.repository.PostStatsRepository;
+import core.global.enums.ImageType;
+import core.global.enums.LikeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostStatsReconciler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostStatsRepository postStatsRepository;
+
+    /**
+     * post_stats 행이 없는 게시글(도입 전 글 등)을 기동 시 채웁니다.
+     * 빠진 행만 대상이라 채울 게 없으면 첫 조회에서 바로 끝나므로 매 기동마다 실행해도 무방합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0L;
+        long filled = 0;
+        try {
+            while (true) {
+                List<Long> ids = postStatsRepository.findPostIdsWithoutStatsAfter(afterId, BATCH_SIZE);
+                if (ids.isEmpty()) break;
+
+                filled += postStatsRepository.reconcile(ids, LikeType.POST.ordinal(), ImageType.POST.ordinal());
+                afterId = ids.get(ids.size() - 1);
+            }
+            if (filled > 0) {
+                log.info("post_stats backfilled: {}", filled);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill post_stats (lastPostId={})", afterId, e);
+        }
+    }
+
+    // 매일 04:00
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        long afterId = 0L;
+        long scanned = 0;
+        long repaired = 0;
+
+        try {
+            while (true) {
+                List<Long> ids = postStatsRepository.findPostIdsAfter(afterId, BATCH_SIZE);
+                if (ids.isEmpty()) break;
+
+                repaired += postStatsRepository.reconcile(ids, LikeType.POST.ordinal(), ImageType.POST.ordinal());
+                scanned += ids.size();
+                afterId = ids.get(ids.size() - 1);
+            }
+            int orphans = postStatsRepository.deleteOrphans();
+            log.info("post_stats reconciled: scanned={}, repaired={}, orphansRemoved={}", scanned, repaired, orphans);
+        } catch (Exception e) {
+            log.error("Failed to reconcile post_stats (lastPostId={})", afterId, e);
+        }
+    }
+}
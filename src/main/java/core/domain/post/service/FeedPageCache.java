@@ -0,0 +1,141 @@
+package core.domain.post.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.domain.post.dto.FeedPage;
+import core.global.enums.SortOption;
+import core.global.search.dto.PostCreatedEvent;
+import core.global.search.dto.PostDeletedEvent;
+import core.global.search.dto.PostUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 피드 페이지 캐시 (Caffeine L1 + Redis L2).
+ * 키는 (boardId, sort, size, cursor)이고, 값은 뷰어와 무관한 {@link FeedPage}입니다.
+ * 게시글 생성/수정/삭제 이벤트가 커밋되면 해당 게시판과 전체 피드의 Redis 버전을 올려 L2를 무효화하고,
+ * 로컬 L1은 즉시 비웁니다. 다른 노드의 L1은 짧은 TTL 안에 만료됩니다.
+ */
+@Slf4j
+@Service
+public class FeedPageCache {
+
+    private static final Duration L1_TTL = Duration.ofSeconds(3);
+    private static final Duration L2_TTL = Duration.ofSeconds(30);
+    private static final String ALL_BOARDS = "all";
+    private static final String VERSION_KEY_PREFIX = "feed:ver:";
+    private static final String PAGE_KEY_PREFIX = "feed:page:";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, FeedPage> local = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    private final Counter l1Hit;
+    private final Counter l2Hit;
+    private final Counter miss;
+
+    public FeedPageCache(StringRedisTemplate redis, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.l1Hit = meterRegistry.counter("feed.page.cache", "result", "l1_hit");
+        this.l2Hit = meterRegistry.counter("feed.page.cache", "result", "l2_hit");
+        this.miss = meterRegistry.counter("feed.page.cache", "result", "miss");
+    }
+
+    public FeedPage get(Long boardId, SortOption sort, int size, String cursor, Supplier<FeedPage> loader) {
+        String board = boardKey(boardId);
+        String localKey = board + ":" + sort + ":" + size + ":" + (cursor == null || cursor.isBlank() ? "-" : cursor);
+
+        FeedPage cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hit.increment();
+            return cached;
+        }
+
+        String remoteKey = remoteKey(board, localKey);
+        FeedPage remote = readRemote(remoteKey);
+        if (remote != null) {
+            l2Hit.increment();
+            local.put(localKey, remote);
+            return remote;
+        }
+
+        miss.increment();
+        FeedPage loaded = loader.get();
+        local.put(localKey, loaded);
+        writeRemote(remoteKey, loaded);
+        return loaded;
+    }
+
+    public void invalidate(Long boardId) {
+        String board = boardKey(boardId);
+        local.asMap().keySet().removeIf(k -> k.startsWith(board + ":") || k.startsWith(ALL_BOARDS + ":"));
+        try {
+            redis.opsForValue().increment(VERSION_KEY_PREFIX + board);
+            redis.opsForValue().increment(VERSION_KEY_PREFIX + ALL_BOARDS);
+        } catch (Exception e) {
+            log.warn("feed cache invalidation failed (board={}): {}", board, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(PostCreatedEvent e) {
+        invalidate(e.doc() != null ? e.doc().boardId() : null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(PostUpdatedEvent e) {
+        invalidate(e.doc() != null ? e.doc().boardId() : null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(PostDeletedEvent e) {
+        invalidate(e.boardId());
+    }
+
+    private String remoteKey(String board, String localKey) {
+        try {
+            String version = redis.opsForValue().get(VERSION_KEY_PREFIX + board);
+            return PAGE_KEY_PREFIX + (version == null ? "0" : version) + ":" + localKey;
+        } catch (Exception e) {
+            log.debug("feed cache version read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private FeedPage readRemote(String key) {
+        if (key == null) return null;
+        try {
+            String json = redis.opsForValue().get(key);
+            return (json == null) ? null : objectMapper.readValue(json, FeedPage.class);
+        } catch (Exception e) {
+            log.debug("feed cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, FeedPage page) {
+        if (key == null) return;
+        try {
+            redis.opsForValue().set(key, objectMapper.writeValueAsString(page), L2_TTL);
+        } catch (Exception e) {
+            log.debug("feed cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private String boardKey(Long boardId) {
+        return (boardId == null) ? ALL_BOARDS : String.valueOf(boardId);
+    }
+}
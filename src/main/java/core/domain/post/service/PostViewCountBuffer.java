@@ -0,0 +1,166 @@
+package core.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 상세 조회마다 post 행을 UPDATE하지 않고 노드 로컬 LongAdder에 누적한 뒤,
+ * 몇 초마다 {@code UPDATE ... FROM (VALUES ...)} 한 번으로 증분을 반영합니다.
+ * 증분만 더하므로 여러 노드가 각자 flush해도 합계는 정확합니다.
+ * 같은 문장에서 조회수가 바뀐 글의 post_stats.suggest_dirty를 세워 자동완성 가중치 갱신 후보로 남깁니다.
+ */
+@Slf4j
+@Service
+public class PostViewCountBuffer {
+
+    private static final int FLUSH_CHUNK = 500;
+    private static final String DEDUP_KEY_PREFIX = "post:view:dedup:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redis;
+    private final boolean dedupEnabled;
+    private final Duration dedupWindow;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public PostViewCountBuffer(
+            JdbcTemplate jdbcTemplate,
+            StringRedisTemplate redis,
+            @Value("${app.view-count.dedup.enabled:false}") boolean dedupEnabled,
+            @Value("${app.view-count.dedup.window-minutes:10}") long dedupWindowMinutes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redis = redis;
+        this.dedupEnabled = dedupEnabled;
+        this.dedupWindow = Duration.ofMinutes(dedupWindowMinutes);
+    }
+
+    /**
+     * 조회 1건을 기록합니다. dedup이 켜져 있으면 같은 시간 창 안의 같은 사용자 재조회는 무시합니다.
+     */
+    public void record(Long postId, String viewerKey) {
+        if (postId == null) return;
+        if (dedupEnabled && viewerKey != null && !isFirstViewInWindow(postId, viewerKey)) return;
+
+        add(postId, 1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 이 노드의 증분.
+     */
+    public long pending(Long postId) {
+        Counter c = counters.get(postId);
+        return (c == null) ? 0L : c.pending.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<long[]> deltas = drain();
+        if (deltas.isEmpty()) return;
+
+        for (int i = 0; i < deltas.size(); i += FLUSH_CHUNK) {
+            List<long[]> chunk = deltas.subList(i, Math.min(i + FLUSH_CHUNK, deltas.size()));
+            try {
+                applyChunk(chunk);
+            } catch (Exception e) {
+                // 실패한 증분은 버퍼로 되돌려 다음 주기에 다시 시도
+                log.warn("view count flush failed (posts={}), will retry: {}", chunk.size(), e.getMessage());
+                chunk.forEach(d -> add(d[0], d[1]));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<long[]> drain() {
+        List<long[]> out = new ArrayList<>();
+        counters.forEach((postId, c) -> {
+            long delta = c.pending.sum();
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없었던 항목만 정리. record()도 compute로 들어오므로
+                // 확인과 제거가 같은 잠금 안에서 일어나 제거된 Counter에 더해지는 일이 없음
+                counters.computeIfPresent(postId, (id, v) -> {
+                    if (v.pending.sum() != 0) return v;
+                    if (v.idle) return null;
+                    v.idle = true;
+                    return v;
+                });
+                return;
+            }
+            // 읽은 만큼만 빼므로 sum 이후 들어온 증가분은 다음 주기로 남음
+            c.pending.add(-delta);
+            c.idle = false;
+            out.add(new long[]{postId, delta});
+        });
+        return out;
+    }
+
+    private void add(Long postId, long n) {
+        counters.compute(postId, (id, c) -> {
+            if (c == null) c = new Counter();
+            c.add(n);
+            return c;
+        });
+    }
+
+    private void applyChunk(List<long[]> chunk) {
+        StringBuilder sql = new StringBuilder("WITH v(post_id, delta) AS (VALUES ");
+        Object[] args = new Object[chunk.size() * 2];
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) sql.append(',');
+            sql.append("(CAST(? AS bigint), CAST(? AS bigint))");
+            args[i * 2] = chunk.get(i)[0];
+            args[i * 2 + 1] = chunk.get(i)[1];
+        }
+        sql.append("), bumped AS (")
+                .append("UPDATE post p SET check_count = p.check_count + v.delta FROM v WHERE p.post_id = v.post_id")
+                .append(" RETURNING p.post_id)")
+                .append(" UPDATE post_stats s SET suggest_dirty = true FROM bumped b")
+                .append(" WHERE s.post_id = b.post_id AND s.suggest_dirty IS NOT TRUE");
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private boolean isFirstViewInWindow(Long postId, String viewerKey) {
+        long bucket = Instant.now().getEpochSecond() / dedupWindow.toSeconds();
+        String key = DEDUP_KEY_PREFIX + postId + ":" + bucket;
+        try {
+            Long added = redis.opsForHyperLogLog().add(key, viewerKey);
+            if (added != null && added > 0) {
+                redis.expire(key, dedupWindow);
+                return true;
+            }
+            return false;
+        } catch (Exception e) {
+            // Redis 장애 시에는 dedup 없이 집계
+            log.debug("view dedup skipped: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private static final class Counter {
+        final LongAdder pending = new LongAdder();
+        volatile boolean idle;
+
+        void add(long n) {
+            pending.add(n);
+            idle = false;
+        }
+    }
+}
@@ -5,12 +5,20 @@ import core.domain.board.entity.Board;
 import core.domain.board.repository.BoardRepository;
 import core.domain.post.dto.*;
 import core.domain.post.entity.Post;
+import core.domain.post.entity.PostStats;
 import core.domain.post.repository.PostRepository;
+import core.domain.post.repository.PostStatsRepository;
+import core.domain.post.scheduler.PopularScoreRefresher;
+import core.domain.post.service.FeedPageCache;
 import core.domain.post.service.PostService;
+import core.domain.post.service.PostViewCountBuffer;
+import core.domain.user.dto.UserBlockedEvent;
 import core.domain.user.entity.BlockUser;
 import core.domain.user.entity.User;
 import core.domain.user.repository.BlockRepository;
 import core.domain.user.repository.UserRepository;
+import core.domain.user.service.BlockGraph;
+import core.global.config.CustomUserDetails;
 import core.global.enums.*;
 import core.global.exception.BusinessException;
 import core.global.image.repository.ImageRepository;
@@ -24,6 +32,8 @@ import core.global.search.dto.PostCreatedEvent;
 import core.global.search.dto.PostDeletedEvent;
 import core.global.search.dto.PostDocument;
 import core.global.search.dto.PostUpdatedEvent;
+import core.global.search.entity.SearchOutbox;
+import core.global.search.repository.SearchOutboxRepository;
 import core.global.service.ForbiddenWordService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -34,12 +44,13 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -47,6 +58,10 @@ import java.util.Optional;
 public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final PostViewCountBuffer viewCountBuffer;
+    private final FeedPageCache feedPageCache;
     private final BoardRepository boardRepository;
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
@@ -54,6 +69,7 @@ public class PostServiceImpl implements PostService {
     private final ForbiddenWordService forbiddenWordService;
     private final ImageService imageService;
     private final BlockRepository blockRepository;
+    private final BlockGraph blockGraph;
     private final ApplicationEventPublisher publisher;
 
     @Override
@@ -72,25 +88,63 @@ public class PostServiceImpl implements PostService {
 
         final int pageSize = Math.min(Math.max(size, 1), 50);
         final Map<String, Object> c = safeDecode(cursor);
+        final SortOption resolvedSort = (sort == SortOption.POPULAR) ? SortOption.POPULAR : SortOption.LATEST;
 
-        return switch (sort) {
-            case POPULAR -> handlePopular(user.getId(), resolvedBoardId, c, pageSize);
-            case LATEST -> handleLatest(user.getId(), resolvedBoardId, c, pageSize);
-            default -> handleLatest(user.getId(), resolvedBoardId, c, pageSize);
-        };
+        FeedPage page = feedPageCache.get(resolvedBoardId, resolvedSort, pageSize, cursor, () -> toFeedPage(
+                switch (resolvedSort) {
+                    case POPULAR -> handlePopular(resolvedBoardId, c, pageSize);
+                    case LATEST -> handleLatest(resolvedBoardId, c, pageSize);
+                }
+        ));
+
+        return overlayViewer(user.getId(), page);
+    }
+
+    // ------- 뷰어 오버레이 -------
+
+    private FeedPage toFeedPage(CursorPageResponse<BoardItem> page) {
+        List<Long> ids = page.items().stream().map(BoardItem::postId).toList();
+        return new FeedPage(page.items(), page.hasNext(), page.nextCursor(),
+                postRepository.findAuthorIdsByPostIds(ids));
+    }
+
+    /**
+     * 공유 캐시 페이지에 뷰어별 좋아요 여부와 차단 필터를 적용합니다.
+     * 커서/hasNext는 원본 페이지 기준이라 차단 글이 빠져도 다음 페이지가 어긋나지 않습니다.
+     */
+    private CursorPageResponse<BoardItem> overlayViewer(Long userId, FeedPage page) {
+        if (page.items().isEmpty()) {
+            return new CursorPageResponse<>(List.of(), false, null);
+        }
+
+        List<BoardItem> visible = page.items().stream()
+                .filter(it -> !blockGraph.isHidden(userId, page.authorIds().get(it.postId())))
+                .toList();
+        if (visible.isEmpty()) {
+            return new CursorPageResponse<>(List.of(), page.hasNext(), page.nextCursor());
+        }
+
+        Set<Long> liked = new HashSet<>(likeRepository.findMyLikedRelatedIds(
+                userId, LikeType.POST, visible.stream().map(BoardItem::postId).toList()));
+
+        List<BoardItem> items = visible.stream()
+                .map(it -> it.withLiked(liked.contains(it.postId())))
+                .toList();
+        return new CursorPageResponse<>(items, page.hasNext(), page.nextCursor());
     }
 
-    // ------- 정렬 핸들러 -------
+    // ------- 정렬 핸들러 (뷰어 무관) -------
 
-    private CursorPageResponse<BoardItem> handleLatest(Long userId, Long boardId, Map<String, Object> c, int pageSize) {
+    private CursorPageResponse<BoardItem> handleLatest(Long boardId, Map<String, Object> c, int pageSize) {
         var k = parseLatest(c); // t,id
         List<BoardItem> rows = postRepository.findLatestPosts(
-                userId,
+                null,
                 boardId,
                 truncateToMillis(k.t),
                 k.id,
                 pageSize + 1,
-                null
+                null,
+                TextSearchMode.TRIGRAM
         );
 
         if (rows == null || rows.isEmpty()) {
@@ -104,17 +158,18 @@ public class PostServiceImpl implements PostService {
         );
     }
 
-    private CursorPageResponse<BoardItem> handlePopular(Long userId, Long boardId, Map<String, Object> c, int pageSize) {
+    private CursorPageResponse<BoardItem> handlePopular(Long boardId, Map<String, Object> c, int pageSize) {
         var k = parsePopular(c);
         Instant since = popularSince();
         List<BoardItem> rows = postRepository.findPopularPosts(
-                userId,
+                null,
                 boardId,
                 since,
                 k.sc,
                 k.id,
                 pageSize + 1,
-                null
+                null,
+                TextSearchMode.TRIGRAM
         );
 
 
@@ -159,30 +214,44 @@ public class PostServiceImpl implements PostService {
         }
     }
     private Instant popularSince() {
-        return Instant.now().minus(Duration.ofDays(10));
+        return Instant.now().minus(PopularScoreRefresher.POPULAR_WINDOW);
     }
 
     // ------- 유틸 -------
 
+    private Long currentUserId(String email) {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof CustomUserDetails details && details.getUserId() != null) {
+            return details.getUserId();
+        }
+        return userRepository.findByEmail(email)
+                .map(User::getId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
     private Instant truncateToMillis(Instant i) {
         return (i == null) ? null : i.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDetailResponse getPostDetail(Long postId) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Long viewerId = currentUserId(email);
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-
-        if(blockRepository.existsBlockedByEmail(email, post.getAuthor().getEmail()) || blockRepository.existsBlockedByEmail(post.getAuthor().getEmail(), email)) {
+        PostDetailView view = postRepository.findPostDetailView(viewerId, postId);
+        if (view == null) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+        if (blockGraph.isHidden(viewerId, view.authorId())) {
             throw new BusinessException(ErrorCode.BLOCKED_USER_POST);
         }
 
-        postRepository.incrementViewCount(postId);
+        viewCountBuffer.record(postId, email);
 
-        return postRepository.findPostDetail(email, postId);
+        PostDetailResponse detail = view.detail();
+        // 저장된 조회수 + 아직 flush되지 않은 증분
+        return detail.withViewCount(detail.viewCount() + viewCountBuffer.pending(postId));
     }
 
     @Override
@@ -253,6 +322,8 @@ public class PostServiceImpl implements PostService {
 
         final Post post = new Post(request, user, board);
         Post saved = postRepository.save(post);
+        postStatsRepository.save(new PostStats(saved));
+        searchOutboxRepository.save(SearchOutbox.index(saved.getId()));
 
         publisher.publishEvent(new PostCreatedEvent(saved.getId(), new PostDocument(saved)));
         return saved;
@@ -264,6 +335,8 @@ public class PostServiceImpl implements PostService {
 
         final Post post = new Post(request, user, board);
         Post saved = postRepository.save(post);
+        postStatsRepository.save(new PostStats(saved));
+        searchOutboxRepository.save(SearchOutbox.index(saved.getId()));
 
         publisher.publishEvent(new PostCreatedEvent(saved.getId(), new PostDocument(saved)));
         return saved;
@@ -291,6 +364,7 @@ public class PostServiceImpl implements PostService {
         imageService.saveOrUpdatePostImages(post.getId(), request.images(), request.removedImages());
 
         if (changed) {
+            searchOutboxRepository.save(SearchOutbox.index(post.getId()));
             publisher.publishEvent(new PostUpdatedEvent(post.getId(), new PostDocument(post)));
         }
     }
@@ -317,8 +391,11 @@ public class PostServiceImpl implements PostService {
         imageRepository.deleteByImageTypeAndRelatedId(ImageType.POST, postId);
 
         Long id = post.getId();
+        Long boardId = post.getBoard().getId();
         postRepository.delete(post);
-        publisher.publishEvent(new PostDeletedEvent(id));
+        postStatsRepository.deleteById(id);
+        searchOutboxRepository.save(SearchOutbox.delete(id));
+        publisher.publishEvent(new PostDeletedEvent(id, boardId));
 
     }
 
@@ -340,6 +417,7 @@ public class PostServiceImpl implements PostService {
                 .type(LikeType.POST)
                 .relatedId(postId)
                 .build());
+        postStatsRepository.addLikeCount(postId, 1);
     }
 
     @Override
@@ -347,7 +425,9 @@ public class PostServiceImpl implements PostService {
     public void removeLike(Long postId) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
 
-        likeRepository.deleteByUserEmailAndIdAndType(email, postId, LikeType.POST);
+        if (likeRepository.deleteByUserEmailAndIdAndType(email, postId, LikeType.POST) > 0) {
+            postStatsRepository.addLikeCount(postId, -1);
+        }
     }
 
     @Override
@@ -421,6 +501,7 @@ public class PostServiceImpl implements PostService {
         }
 
         blockRepository.save(new BlockUser(me, blockedUser));
+        publisher.publishEvent(new UserBlockedEvent(me.getId(), blockedUser.getId()));
     }
 
 
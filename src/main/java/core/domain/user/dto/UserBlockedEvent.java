@@ -0,0 +1,3 @@
+package core.domain.user.dto;
+
+public record UserBlockedEvent(Long userId, Long blockedId) {}
@@ -1,7 +1,6 @@
 package core.domain.user.repository;
 
 import core.domain.user.entity.BlockUser;
-import core.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,10 +9,6 @@ import java.util.List;
 
 public interface BlockRepository extends JpaRepository<BlockUser, Long> {
 
-    @Query("select b.blocked from BlockUser b " +
-           "where b.user.email = :email")
-    List<User> getBlockUsersByUserEmail(@Param("email") String email);
-
     @Query("select count(b) > 0 from BlockUser b " +
            "where b.user.id = :myId and b.blocked.id = :counterId")
     boolean existsBlock(@Param("myId") Long myId, @Param("counterId") Long counterId);
@@ -22,4 +17,21 @@ public interface BlockRepository extends JpaRepository<BlockUser, Long> {
            "where b.user.email = :email and b.blocked.email = :authorEmail")
     boolean existsBlockedByEmail(@Param("email") String  email, @Param("authorEmail") String authorEmail);
 
+    @Query("select b.blocked.id from BlockUser b where b.user.id = :userId")
+    List<Long> findBlockedIds(@Param("userId") Long userId);
+
+    @Query("select b.user.id from BlockUser b where b.blocked.id = :userId")
+    List<Long> findBlockerIds(@Param("userId") Long userId);
+
+    /** 양방향 차단 상대가 threshold명 이상인 사용자 (검색 user_filters 대상) */
+    @Query(value = """
+            select t.uid
+              from (select user_id as uid, people_id as other from block_user
+                    union
+                    select people_id, user_id from block_user) t
+             group by t.uid
+            having count(*) >= :threshold
+            """, nativeQuery = true)
+    List<Long> findUserIdsWithHiddenAtLeast(@Param("threshold") int threshold);
+
 }
@@ -0,0 +1,119 @@
+package core.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import core.domain.user.dto.UserBlockedEvent;
+import core.domain.user.repository.BlockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 차단 관계(내가 차단한 사용자 + 나를 차단한 사용자)를 정렬된 long[]으로 캐싱합니다.
+ * 처음 조회할 때 적재하고, 차단이 생기면 커밋 후 양쪽 사용자를 무효화한 뒤
+ * Redis pub/sub로 다른 노드에도 알립니다.
+ * 피드/댓글/검색/상세는 NOT EXISTS 서브쿼리 대신 이 집합으로 필터링합니다.
+ */
+@Slf4j
+@Service
+public class BlockGraph implements MessageListener {
+
+    private static final String CHANNEL = "block-graph";
+
+    private final BlockRepository blockRepository;
+    private final StringRedisTemplate redis;
+    private final LoadingCache<Long, BlockSet> cache;
+
+    public BlockGraph(BlockRepository blockRepository,
+                      StringRedisTemplate redis,
+                      RedisMessageListenerContainer redisContainer) {
+        this.blockRepository = blockRepository;
+        this.redis = redis;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build(this::load);
+        redisContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /** viewer와 author 사이에 어느 방향이든 차단이 있으면 true */
+    public boolean isHidden(Long viewerId, Long authorId) {
+        if (viewerId == null || authorId == null) return false;
+        return cache.get(viewerId).contains(authorId);
+    }
+
+    /** viewer에게 숨겨야 하는 사용자 ID (양방향, 중복 제거) */
+    public List<Long> hiddenIds(Long viewerId) {
+        if (viewerId == null) return List.of();
+        long[] ids = cache.get(viewerId).ids;
+        List<Long> out = new ArrayList<>(ids.length);
+        for (long id : ids) out.add(id);
+        return out;
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) cache.invalidate(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(UserBlockedEvent e) {
+        invalidate(e.userId());
+        invalidate(e.blockedId());
+        try {
+            redis.convertAndSend(CHANNEL, e.userId() + "," + e.blockedId());
+        } catch (Exception ex) {
+            // 다른 노드는 expireAfterAccess 이후 다시 적재
+            log.warn("block graph broadcast failed: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String part : body.split(",")) {
+            try {
+                invalidate(Long.parseLong(part.trim()));
+            } catch (NumberFormatException ignored) {
+                log.debug("invalid block graph message: {}", body);
+            }
+        }
+    }
+
+    private BlockSet load(Long userId) {
+        return BlockSet.of(blockRepository.findBlockedIds(userId), blockRepository.findBlockerIds(userId));
+    }
+
+    private static final class BlockSet {
+        private final long[] ids;
+
+        private BlockSet(long[] ids) {
+            this.ids = ids;
+        }
+
+        static BlockSet of(Collection<Long> blocked, Collection<Long> blockedBy) {
+            long[] merged = new long[blocked.size() + blockedBy.size()];
+            int n = 0;
+            for (Long id : blocked) merged[n++] = id;
+            for (Long id : blockedBy) merged[n++] = id;
+            long[] sorted = Arrays.stream(merged).sorted().distinct().toArray();
+            return new BlockSet(sorted);
+        }
+
+        boolean contains(long id) {
+            return ids.length > 0 && Arrays.binarySearch(ids, id) >= 0;
+        }
+    }
+}
@@ -94,7 +94,7 @@ public class ContentBasedRecommender {
     }
 
     /** Gumbel-Top-k: key = score/T + Gumbel(0,1) 로 정렬 → 상위 limit 선택(중복 없음) */
-    private List<User> pickGumbelTopK(List<Scored<User>> pool, int limit, double temperature) {
+    List<User> pickGumbelTopK(List<Scored<User>> pool, int limit, double temperature) {
         class Draw { final User u; final double key; Draw(User u, double key){this.u=u; this.key=key;} }
         List<Draw> draws = new ArrayList<>(pool.size());
         double T = Math.max(1e-6, temperature);
@@ -108,7 +108,7 @@ public class ContentBasedRecommender {
         return draws.stream().limit(Math.max(1, limit)).map(d -> d.u).toList();
     }
 
-    private double score(User me, User other, int meAge, Set<String> meLangs) {
+    double score(User me, User other, int meAge, Set<String> meLangs) {
         double purposeScore = eq(me.getPurpose(), other.getPurpose()) ? 1.0 : 0.0;
         double countryScore = eq(me.getCountry(), other.getCountry()) ? 1.0 : 0.0;
         double ageScore = ageSim(meAge, safeAge(other.getBirthdate()), 9.0);
@@ -129,7 +129,7 @@ public class ContentBasedRecommender {
         return a != null && b != null && a.trim().equalsIgnoreCase(b.trim());
     }
 
-    private Set<String> csvToSet(String csv) {
+    Set<String> csvToSet(String csv) {
         if (csv == null || csv.isBlank()) return Set.of();
         return Arrays.stream(csv.split(","))
                 .map(s -> s.trim().toLowerCase())
@@ -161,7 +161,7 @@ public class ContentBasedRecommender {
     }
 
     @Getter @AllArgsConstructor
-    private static class Scored<T> { private T item; private double score; }
+    static class Scored<T> { private T item; private double score; }
 
 
     private UserUpdateDTO toDto(User u) {
@@ -0,0 +1,90 @@
+package core.global.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import core.global.datasource.ReadYourWritesTracker;
+import core.global.datasource.ReplicaDataSourceProperties;
+import core.global.datasource.ReplicaHealthMonitor;
+import core.global.datasource.ReplicaRoutingDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * app.datasource.replicas[0].url 이 설정된 경우에만 활성화됩니다.
+ * primary는 기존 spring.datasource(.hikari) 설정을 그대로 쓰고, 복제본마다 읽기 전용 Hikari 풀을 만듭니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas[0]", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(Duration.ofMillis(properties.stickyWindowMs()));
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      DataSourceProperties primaryProperties,
+                                                      ReplicaDataSourceProperties properties,
+                                                      ReadYourWritesTracker readYourWritesTracker) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        int i = 0;
+        for (ReplicaDataSourceProperties.Replica r : properties.replicas()) {
+            String name = (r.name() == null || r.name().isBlank()) ? "replica-" + i : r.name();
+            HikariDataSource pool = replicaPool(name, r, primaryProperties);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, pool, r.weight(), () -> activeConnections(pool)));
+            i++;
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        // readOnly 플래그가 동기화된 뒤(첫 쿼리 시점)에 실제 커넥션을 고르도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(ReplicaRoutingDataSource routingDataSource,
+                                                     ReplicaDataSourceProperties properties) {
+        return new ReplicaHealthMonitor(routingDataSource, properties);
+    }
+
+    private HikariDataSource replicaPool(String name, ReplicaDataSourceProperties.Replica r, DataSourceProperties primary) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(r.url());
+        config.setUsername(r.username() != null ? r.username() : primary.determineUsername());
+        config.setPassword(r.password() != null ? r.password() : primary.determinePassword());
+        config.setDriverClassName(primary.determineDriverClassName());
+        config.setMaximumPoolSize(r.maxPoolSize());
+        config.setConnectionTimeout(r.connectionTimeoutMs());
+        config.setReadOnly(true);
+        // 복제본이 내려가 있어도 애플리케이션은 기동 (상태 점검이 복귀를 처리)
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    private static int activeConnections(HikariDataSource pool) {
+        HikariPoolMXBean mx = pool.getHikariPoolMXBean();
+        return (mx == null) ? 0 : mx.getActiveConnections();
+    }
+}
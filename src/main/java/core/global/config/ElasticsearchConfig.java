@@ -1,5 +1,6 @@
 package core.global.config;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
@@ -33,6 +34,10 @@ public class ElasticsearchConfig {
                 .setHttpClientConfigCallback((HttpAsyncClientBuilder http) ->
                         http.setDefaultCredentialsProvider(creds)
                 )
+                // 요청별 타임아웃은 ElasticsearchGuard가 걸고, 여기서는 커넥션이 무한정 묶이지 않도록 상한만 둠
+                .setRequestConfigCallback(rc -> rc
+                        .setConnectTimeout(1_000)
+                        .setSocketTimeout(10_000))
                 .build();
     }
 
@@ -43,4 +48,10 @@ public class ElasticsearchConfig {
         var transport = new RestClientTransport(restClient, mapper);
         return new ElasticsearchClient(transport);
     }
+
+    // 동기 클라이언트와 같은 transport(커넥션 풀)를 공유
+    @Bean
+    public ElasticsearchAsyncClient elasticsearchAsyncClient(ElasticsearchClient elasticsearchClient) {
+        return new ElasticsearchAsyncClient(elasticsearchClient._transport());
+    }
 }
\ No newline at end of file
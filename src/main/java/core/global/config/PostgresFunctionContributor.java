@@ -0,0 +1,31 @@
+package core.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL에서 쓰는 Postgres 전용 함수 등록 (META-INF/services로 로드).
+ * fts_match(content, q)는 PostSearchIndexInitializer가 만든 to_tsvector('simple', post_content) GIN 인덱스와
+ * 같은 식으로 렌더링되어야 인덱스를 탑니다. fts_rank(content, q)는 같은 식의 ts_rank로 정렬에만 씁니다.
+ */
+public class PostgresFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fts_match",
+                "(to_tsvector('simple', ?1) @@ plainto_tsquery('simple', ?2))",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fts_rank",
+                "ts_rank(to_tsvector('simple', ?1), plainto_tsquery('simple', ?2))",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
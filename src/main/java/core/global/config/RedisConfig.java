@@ -6,7 +6,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
@@ -29,11 +28,6 @@ public class RedisConfig {
         return new LettuceConnectionFactory(redisConfiguration);
     }
 
-    @Bean
-    public ChannelTopic chatTopic() {
-        return new ChannelTopic("chat-messages");
-    }
-
     @Bean
     public RedisMessageListenerContainer redisContainer(LettuceConnectionFactory conn) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
@@ -1,5 +1,6 @@
 package core.global.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -38,6 +39,9 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // CompletableFuture 응답의 ASYNC 재디스패치: JwtTokenFilter(OncePerRequestFilter)가 다시 돌지 않으므로
+                        // 인증은 최초 REQUEST 디스패치에서 이미 검사됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/v1/member/refresh",
                                 "/api/v1/images/presign",
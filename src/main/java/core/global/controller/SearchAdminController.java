@@ -0,0 +1,77 @@
+package core.global.controller;
+
+import core.global.dto.ApiResponse;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import core.global.search.dto.ReindexStatus;
+import core.global.search.scheduler.SearchOutboxRelay;
+import core.global.search.service.PostReindexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인 운영 API. app.admin.emails 에 등록된 계정만 호출할 수 있습니다.
+ */
+@RestController
+@Validated
+@RequestMapping("/api/v1/admin/search")
+@Tag(name = "Search Admin", description = "검색 색인 운영 API")
+public class SearchAdminController {
+
+    private final SearchOutboxRelay searchOutboxRelay;
+    private final PostReindexService postReindexService;
+    private final Set<String> adminEmails;
+
+    SearchAdminController(SearchOutboxRelay searchOutboxRelay,
+                          PostReindexService postReindexService,
+                          @Value("${app.admin.emails:}") String adminEmails) {
+        this.searchOutboxRelay = searchOutboxRelay;
+        this.postReindexService = postReindexService;
+        this.adminEmails = Arrays.stream(adminEmails.split(","))
+                .map(s -> s.trim().toLowerCase(Locale.ROOT))
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Operation(summary = "아웃박스 재반영", description = "search_outbox의 fromId 이후 행을 다시 ES에 반영합니다. 되돌린 행 수를 반환합니다.")
+    @PostMapping("/outbox/replay")
+    public ResponseEntity<ApiResponse<Integer>> replay(
+            @Parameter(description = "재반영 시작 outbox id", example = "1")
+            @RequestParam @PositiveOrZero long fromId) {
+        requireAdmin();
+        return ResponseEntity.ok(ApiResponse.success(searchOutboxRelay.replayFrom(fromId)));
+    }
+
+    @Operation(summary = "전체 재색인 시작", description = "새 posts-lab-* 인덱스로 전체 게시글을 복사한 뒤 별칭을 교체합니다. 이미 진행 중이면 현재 상태를 반환합니다.")
+    @PostMapping("/reindex")
+    public ResponseEntity<ApiResponse<ReindexStatus>> startReindex() {
+        requireAdmin();
+        return ResponseEntity.ok(ApiResponse.success(postReindexService.start()));
+    }
+
+    @Operation(summary = "재색인 진행 상황", description = "복사 건수, 실패 건수, 처리량(docs/sec)을 반환합니다.")
+    @GetMapping("/reindex")
+    public ResponseEntity<ApiResponse<ReindexStatus>> reindexStatus() {
+        requireAdmin();
+        return ResponseEntity.ok(ApiResponse.success(postReindexService.status()));
+    }
+
+    private void requireAdmin() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        if (email == null || !adminEmails.contains(email.toLowerCase(Locale.ROOT))) {
+            throw new BusinessException(ErrorCode.ADMIN_ONLY);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package core.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 사용자를 잠시 기억해, 복제 지연 동안 자기 글이 안 보이는 일을 막습니다.
+ * 자동 구성된 트랜잭션 매니저에 리스너로 등록되며, 기억 범위는 인스턴스 로컬입니다.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    @Nullable
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = (window == null || window.isZero() || window.isNegative())
+                ? null
+                : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (recentWriters == null || commitFailure != null) return;
+        if (transaction.isReadOnly() || !transaction.isNewTransaction()) return;
+
+        String key = currentUserKey();
+        if (key != null) recentWriters.put(key, Boolean.TRUE);
+    }
+
+    /** 현재 사용자가 stickiness 윈도우 안에 있으면 true */
+    public boolean shouldReadFromPrimary() {
+        if (recentWriters == null) return false;
+        String key = currentUserKey();
+        return key != null && recentWriters.getIfPresent(key) != null;
+    }
+
+    @Nullable
+    private static String currentUserKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
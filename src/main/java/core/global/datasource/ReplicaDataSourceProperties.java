@@ -0,0 +1,49 @@
+package core.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 설정 (app.datasource.*).
+ * replicas가 비어 있으면 라우팅 DataSource를 만들지 않고 기본 spring.datasource 하나만 씁니다.
+ *
+ * @param replicas            복제본 목록
+ * @param stickyWindowMs      쓰기 트랜잭션 커밋 후 같은 사용자의 읽기를 primary로 보내는 시간 (0이면 끔)
+ * @param healthCheckIntervalMs 복제본 상태 점검 주기
+ * @param maxLagSeconds       이 값보다 복제 지연이 크면 해당 복제본을 제외 (0이면 지연 검사 안 함)
+ */
+@ConfigurationProperties(prefix = "app.datasource")
+public record ReplicaDataSourceProperties(
+        List<Replica> replicas,
+        long stickyWindowMs,
+        long healthCheckIntervalMs,
+        long maxLagSeconds
+) {
+
+    public ReplicaDataSourceProperties {
+        replicas = (replicas == null) ? List.of() : List.copyOf(replicas);
+        if (healthCheckIntervalMs <= 0) healthCheckIntervalMs = 5_000L;
+    }
+
+    /**
+     * @param weight              가중치 (클수록 더 많은 읽기를 받음, 기본 1)
+     * @param maxPoolSize         커넥션 풀 최대 크기 (기본 10)
+     * @param connectionTimeoutMs 커넥션 획득 대기 시간. 짧게 두어야 장애 시 primary로 빨리 넘어갑니다 (기본 1000)
+     */
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            int weight,
+            int maxPoolSize,
+            long connectionTimeoutMs
+    ) {
+        public Replica {
+            if (weight <= 0) weight = 1;
+            if (maxPoolSize <= 0) maxPoolSize = 10;
+            if (connectionTimeoutMs <= 0) connectionTimeoutMs = 1_000L;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package core.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제본 상태 점검. 빠졌던 복제본은 다시 정상으로 확인되면 라우팅 대상에 복귀합니다.
+ */
+@RequiredArgsConstructor
+public class ReplicaHealthMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReplicaDataSourceProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.datasource.health-check-interval-ms:5000}")
+    public void check() {
+        routingDataSource.checkReplicas(properties.maxLagSeconds());
+    }
+}
@@ -0,0 +1,176 @@
+package core.global.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+
+/**
+ * readOnly 트랜잭션을 복제본으로, 그 외(쓰기/트랜잭션 밖)는 primary로 보내는 DataSource.
+ * - 복제본 선택: 가중 최소 연결 (사용 중 커넥션 수 / weight 가 가장 작은 복제본, 동점이면 무작위)
+ * - 장애 대응: 커넥션 획득이 실패하거나 상태 점검에서 빠진 복제본은 건너뛰고, 남은 복제본이 없으면 primary
+ * - read-your-writes: 최근 쓰기를 커밋한 사용자의 읽기는 ReadYourWritesTracker 윈도우 동안 primary
+ * 트랜잭션 readOnly 플래그가 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 씁니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // 복제본이 primary보다 이만큼 넘게 뒤처지면 제외 (pg_last_xact_replay_timestamp 기준, 수신=재생이면 0)
+    private static final String LAG_SQL = """
+            select case
+                     when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                     else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+                   end
+            """;
+
+    private final DataSource primary;
+    @Getter
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker tracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, ReadYourWritesTracker tracker) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = route();
+        if (replica == null) return primary.getConnection();
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            markDown(replica, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = route();
+        if (replica == null) return primary.getConnection(username, password);
+        try {
+            return replica.dataSource.getConnection(username, password);
+        } catch (SQLException e) {
+            markDown(replica, e.getMessage());
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /** 이번 커넥션을 받을 복제본. null이면 primary */
+    @Nullable
+    Replica route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        if (tracker.shouldReadFromPrimary()) return null;
+        return pick();
+    }
+
+    @Nullable
+    Replica pick() {
+        Replica best = null;
+        double bestLoad = Double.MAX_VALUE;
+        int ties = 0;
+        for (Replica r : replicas) {
+            if (!r.healthy) continue;
+            double load = (r.activeConnections.getAsInt() + 1.0) / r.weight;
+            if (load < bestLoad) {
+                best = r;
+                bestLoad = load;
+                ties = 1;
+            } else if (load == bestLoad && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                // 동점 복제본 사이에서는 균등하게 (reservoir sampling)
+                best = r;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 복제본마다 연결 가능 여부와 복제 지연을 확인해 상태를 갱신합니다. ReplicaHealthMonitor가 주기적으로 호출합니다.
+     */
+    public void checkReplicas(long maxLagSeconds) {
+        for (Replica r : replicas) {
+            try (Connection c = r.dataSource.getConnection()) {
+                if (!c.isValid(2)) {
+                    markDown(r, "connection not valid");
+                    continue;
+                }
+                if (maxLagSeconds > 0) {
+                    double lag = replicationLagSeconds(c);
+                    if (lag > maxLagSeconds) {
+                        markDown(r, "replication lag " + lag + "s");
+                        continue;
+                    }
+                }
+                markUp(r);
+            } catch (SQLException e) {
+                markDown(r, e.getMessage());
+            }
+        }
+    }
+
+    private double replicationLagSeconds(Connection c) throws SQLException {
+        try (Statement st = c.createStatement(); ResultSet rs = st.executeQuery(LAG_SQL)) {
+            return rs.next() ? rs.getDouble(1) : 0d;
+        }
+    }
+
+    private void markDown(Replica r, String reason) {
+        if (r.healthy) {
+            r.healthy = false;
+            log.warn("Replica [{}] marked down, reads fall back to other replicas/primary: {}", r.name, reason);
+        }
+    }
+
+    private void markUp(Replica r) {
+        if (!r.healthy) {
+            r.healthy = true;
+            log.info("Replica [{}] is back in rotation", r.name);
+        }
+    }
+
+    /** 복제본 풀만 닫습니다. primary는 별도 빈으로 관리됩니다. */
+    @Override
+    public void close() {
+        for (Replica r : replicas) {
+            if (r.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica [{}]", r.name, e);
+                }
+            }
+        }
+    }
+
+    /** 복제본 하나. activeConnections는 현재 사용 중인 커넥션 수 (Hikari pool MXBean) */
+    @Getter
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final int weight;
+        private final IntSupplier activeConnections;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, DataSource dataSource, int weight, IntSupplier activeConnections) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.weight = Math.max(1, weight);
+            this.activeConnections = activeConnections;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package core.global.enums;
+
+public enum SearchOutboxOp {
+    INDEX, DELETE
+}
@@ -0,0 +1,10 @@
+package core.global.enums;
+
+/**
+ * 피드 내 검색어(q) 매칭 방식.
+ * TRIGRAM: 부분 문자열 일치 (lower(post_content) LIKE, pg_trgm GIN 인덱스 사용)
+ * FULL_TEXT: 단어 단위 일치 (to_tsvector @@ plainto_tsquery, GIN 인덱스 사용). ES 장애 시 검색 대체 경로도 이 방식을 씁니다.
+ */
+public enum TextSearchMode {
+    TRIGRAM, FULL_TEXT
+}
@@ -1,5 +1,6 @@
 package core.global.image.service.impl;
 
+import core.domain.post.repository.PostStatsRepository;
 import core.global.dto.UpsertChatRoomImageRequest;
 import core.global.enums.ErrorCode;
 import core.global.enums.ImageType;
@@ -35,6 +36,7 @@ public class ImageServiceImpl implements ImageService {
     private final S3Presigner s3Presigner;
     private final S3Client s3Client;
     private final ImageRepository imageRepository;
+    private final PostStatsRepository postStatsRepository;
 
     @Value("${ncp.s3.bucket}")
     private String bucket;
@@ -153,7 +155,10 @@ public class ImageServiceImpl implements ImageService {
             survivorUrls.add(UrlUtil.buildPublicUrlFromKey(endPoint, bucket, storedKey));
         }
 
-        if (adds.isEmpty()) return;
+        if (adds.isEmpty()) {
+            refreshPostImageStats(postId, survivors, List.of());
+            return;
+        }
 
         final String basePrefix = "posts/" + postId;
         final int startOrder = pos;
@@ -196,6 +201,7 @@ public class ImageServiceImpl implements ImageService {
         }
 
         if (!toSave.isEmpty()) imageRepository.saveAll(toSave);
+        refreshPostImageStats(postId, survivors, toSave);
 
         // 4) 한 번에 삭제(사용자 제거 + 스테이징 원본)
         if (!stagingToDelete.isEmpty()) bulkDeleteKeys.addAll(stagingToDelete);
@@ -203,6 +209,20 @@ public class ImageServiceImpl implements ImageService {
     }
 
 
+    /**
+     * post_stats의 이미지 수/대표 이미지를 현재 상태로 맞춥니다.
+     * 생존 이미지가 앞 순번을 차지하므로 대표 이미지는 생존 첫 장, 없으면 새로 추가된 첫 장입니다.
+     */
+    private void refreshPostImageStats(Long postId, List<Image> survivors, List<Image> saved) {
+        String thumbnailUrl = !survivors.isEmpty()
+                ? survivors.get(0).getUrl()
+                : saved.stream()
+                        .min(Comparator.comparing(Image::getOrderIndex))
+                        .map(Image::getUrl)
+                        .orElse(null);
+        postStatsRepository.updateImages(postId, survivors.size() + saved.size(), thumbnailUrl);
+    }
+
     private boolean isStagingKey(String key) {
         String k = UrlUtil.trimSlashes(key);
         return k.startsWith("temp/");
@@ -0,0 +1,47 @@
+package core.global.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 피드 검색어(q)용 인덱스와 검색 동기화 작업의 후보 조회용 부분 인덱스를 준비합니다.
+ * ddl-auto로는 만들 수 없는 확장/식/부분 인덱스라 기동 시 멱등하게 생성합니다.
+ * 식은 PostgresFunctionContributor(fts_match)와 QueryDSL containsIgnoreCase 렌더링 결과와 일치해야 하고,
+ * 부분 인덱스의 조건은 PostSignalSync/SuggestWeightRefresher 후보 쿼리의 조건과 같아야 인덱스를 탑니다.
+ */
+@Slf4j
+@Component
+@Profile({"dev", "local", "prod"})
+@RequiredArgsConstructor
+public class PostSearchIndexInitializer implements CommandLineRunner {
+
+    private static final List<String> STATEMENTS = List.of(
+            "create extension if not exists pg_trgm",
+            "create index if not exists idx_post_content_fts on post using gin (to_tsvector('simple', post_content))",
+            "create index if not exists idx_post_content_trgm on post using gin (lower(post_content) gin_trgm_ops)",
+            "create index if not exists idx_post_stats_signal_pending on post_stats (post_id)"
+                    + " where signal_likes is distinct from like_count or signal_comments is distinct from comment_count",
+            "create index if not exists idx_post_stats_suggest_pending on post_stats (post_id)"
+                    + " where suggest_weight is null or suggest_dirty"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        for (String sql : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(sql);
+            } catch (Exception e) {
+                // 권한 부족(확장 생성) 등은 검색 성능만 영향이 있으므로 기동은 계속
+                log.warn("post search index statement failed: [{}] {}", sql, e.getMessage());
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 /** 정렬유형별로 필요한 키만 넣어 encode 하세요.
  *  예) 최신: t(Instant), id(Long)
  *      인기: sc(score, Long), id(Long)
+ *      활동 시각: at(epoch millis, Long), id(Long)
  *      단순 ID: id(Long)
  *  필요 시 키추가 가능(예: lc=likeCount)
  */
@@ -53,6 +54,13 @@ public final class CursorCodec {
         return encode(m);
     }
 
+    public static String encodeActivity(long epochMillis, Long id) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("at", epochMillis);
+        m.put("id", id);
+        return encode(m);
+    }
+
     public static String encodeId(Long id) {
         Map<String, Object> m = new HashMap<>();
         m.put("id", id);
@@ -9,4 +9,12 @@ public final class SearchConstants {
     public static final int BLOCK_TERMS_LOOKUP_THRESHOLD = 800;
     public static final String USER_FILTER_INDEX = "user_filters";
     public static final String USER_FILTER_BLOCKED_PATH = "blockedUserIds";
+
+    // 부분 update는 ES가 내부 버전을 1씩 올리므로, outbox id 사이에 그만큼의 간격을 둡니다.
+    public static final int VERSION_SHIFT = 20;
+
+    /** outbox id → ES 외부 버전 */
+    public static long esVersion(long outboxId) {
+        return outboxId << VERSION_SHIFT;
+    }
 }
\ No newline at end of file
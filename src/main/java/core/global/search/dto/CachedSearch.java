@@ -0,0 +1,12 @@
+package core.global.search.dto;
+
+import java.util.List;
+
+/**
+ * 뷰어와 무관한 검색 상위 결과 (차단 필터 적용 전).
+ *
+ * @param hits      점수 순 히트 (작성자 id 포함)
+ * @param exhausted 더 이상 결과가 없으면 true (뷰어 필터로 페이지가 모자라도 ES를 다시 부를 필요가 없음)
+ * @param degraded  ES 장애로 Postgres 대체 경로에서 만든 결과 (캐시에 넣지 않음)
+ */
+public record CachedSearch(List<SearchHitLite> hits, boolean exhausted, boolean degraded) {}
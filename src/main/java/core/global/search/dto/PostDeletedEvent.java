@@ -1,3 +1,3 @@
 package core.global.search.dto;
 
-public record PostDeletedEvent(Long postId) {}
\ No newline at end of file
+public record PostDeletedEvent(Long postId, Long boardId) {}
\ No newline at end of file
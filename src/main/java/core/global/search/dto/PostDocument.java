@@ -41,7 +41,7 @@ public record PostDocument(
         );
     }
 
-    private static int weight(Long checkCount, Long createdAtMillis) {
+    public static int weight(Long checkCount, Long createdAtMillis) {
         long now = System.currentTimeMillis();
         long created = (createdAtMillis == null ? now : createdAtMillis);
         long cc = (checkCount == null ? 0L : checkCount);
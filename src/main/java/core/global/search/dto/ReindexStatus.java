@@ -0,0 +1,29 @@
+package core.global.search.dto;
+
+import java.time.Instant;
+
+/**
+ * 전체 재색인 진행 상황.
+ *
+ * @param state         IDLE, RUNNING, COMPLETED, FAILED
+ * @param index         새로 만든 posts-lab-* 인덱스
+ * @param total         시작 시점의 게시글 수(추정)
+ * @param copied        새 인덱스에 반영된 문서 수
+ * @param failed        재시도 후에도 실패한 문서 수
+ * @param docsPerSecond 시작 이후 평균 처리량
+ */
+public record ReindexStatus(
+        String state,
+        String index,
+        long total,
+        long copied,
+        long failed,
+        double docsPerSecond,
+        Instant startedAt,
+        Instant finishedAt,
+        String message
+) {
+    public static ReindexStatus idle() {
+        return new ReindexStatus("IDLE", null, 0, 0, 0, 0d, null, null, null);
+    }
+}
@@ -0,0 +1,55 @@
+package core.global.search.dto;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import core.global.pagination.CursorCodec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 무한스크롤 커서. PIT id + 마지막 히트의 sort 값(search_after) + 첫 페이지 기준 시각.
+ * 최신성 점수(gauss origin)를 첫 페이지 시각으로 고정해야 페이지 사이에 점수가 흔들리지 않습니다.
+ *
+ * @param pitId       point-in-time id
+ * @param searchAfter [_score, createdAt, _shard_doc]
+ * @param now         첫 페이지 요청 시각 (epoch millis)
+ */
+public record SearchCursor(String pitId, List<FieldValue> searchAfter, long now) {
+
+    public String encode() {
+        List<Object> sa = new ArrayList<>(searchAfter.size());
+        for (FieldValue v : searchAfter) sa.add(v._get());
+        Map<String, Object> m = new HashMap<>();
+        m.put("pit", pitId);
+        m.put("sa", sa);
+        m.put("n", now);
+        return CursorCodec.encode(m);
+    }
+
+    /** 비어 있으면 null (첫 페이지) */
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            Map<String, Object> m = CursorCodec.decode(cursor);
+            String pit = (String) m.get("pit");
+            List<?> raw = (List<?>) m.get("sa");
+            if (pit == null || raw == null || raw.isEmpty()) throw new IllegalArgumentException("missing fields");
+
+            List<FieldValue> sa = new ArrayList<>(raw.size());
+            for (Object v : raw) {
+                if (v instanceof Integer || v instanceof Long) sa.add(FieldValue.of(((Number) v).longValue()));
+                else if (v instanceof Number n) sa.add(FieldValue.of(n.doubleValue()));
+                else if (v instanceof Boolean b) sa.add(FieldValue.of(b));
+                else if (v == null) sa.add(FieldValue.NULL);
+                else sa.add(FieldValue.of(String.valueOf(v)));
+            }
+            return new SearchCursor(pit, sa, ((Number) m.get("n")).longValue());
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
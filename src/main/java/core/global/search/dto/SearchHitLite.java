@@ -1,3 +1,3 @@
 package core.global.search.dto;
 
-public record SearchHitLite(Long id, double score, String highlight) {}
\ No newline at end of file
+public record SearchHitLite(Long id, Long userId, double score, String highlight) {}
@@ -0,0 +1,66 @@
+package core.global.search.entity;
+
+import core.global.enums.SearchOutboxOp;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * 검색 색인 아웃박스(search_outbox).
+ * 게시글 쓰기와 같은 트랜잭션에서 한 행을 남기고, SearchOutboxRelay가 순서대로 ES에 반영합니다.
+ * outbox_id는 ES 외부 버전으로도 쓰여 늦게 도착한 옛 변경이 새 문서를 덮어쓰지 못합니다.
+ */
+@Entity
+@Table(
+        name = "search_outbox",
+        indexes = {
+                @Index(name = "idx_search_outbox_pending", columnList = "processed_at, outbox_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SearchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "op", nullable = false, length = 10)
+    private SearchOutboxOp op;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // 릴레이가 가져간 시각 (lease). 만료되면 다른 노드가 다시 가져갑니다.
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    private SearchOutbox(Long postId, SearchOutboxOp op) {
+        this.postId = postId;
+        this.op = op;
+    }
+
+    public static SearchOutbox index(Long postId) {
+        return new SearchOutbox(postId, SearchOutboxOp.INDEX);
+    }
+
+    public static SearchOutbox delete(Long postId) {
+        return new SearchOutbox(postId, SearchOutboxOp.DELETE);
+    }
+}
@@ -0,0 +1,73 @@
+package core.global.search.repository;
+
+import core.global.search.entity.SearchOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchOutboxRepository extends JpaRepository<SearchOutbox, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update search_outbox
+               set processed_at = now()
+             where outbox_id in (:ids)
+               and processed_at is null
+            """, nativeQuery = true)
+    int markProcessed(@Param("ids") Collection<Long> ids);
+
+    /**
+     * fromId 이후 행을 미처리 상태로 되돌려 릴레이가 다시 반영하게 합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update search_outbox
+               set processed_at = null,
+                   claimed_at = null,
+                   attempts = 0
+             where outbox_id >= :fromId
+            """, nativeQuery = true)
+    int replayFrom(@Param("fromId") Long fromId);
+
+    /**
+     * 체크포인트: 이 id 이하의 행은 모두 반영 완료.
+     */
+    @Query(value = """
+            select coalesce(
+                     (select min(outbox_id) - 1 from search_outbox where processed_at is null),
+                     (select max(outbox_id) from search_outbox),
+                     0)
+            """, nativeQuery = true)
+    Long findCheckpoint();
+
+    @Query(value = "select coalesce(max(outbox_id), 0) from search_outbox", nativeQuery = true)
+    Long findMaxId();
+
+    /**
+     * afterId 이후 변경된 게시글과 그 글의 최신 outbox id. [post_id, max(outbox_id)]
+     */
+    @Query(value = """
+            select post_id, max(outbox_id)
+              from search_outbox
+             where outbox_id > :afterId
+             group by post_id
+            """, nativeQuery = true)
+    List<Object[]> findLatestPerPostAfter(@Param("afterId") Long afterId);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            delete from search_outbox
+             where processed_at is not null
+               and processed_at < :before
+            """, nativeQuery = true)
+    int purgeProcessedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,247 @@
+package core.global.search.scheduler;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import core.global.search.SearchConstants;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요/댓글 수를 ES 문서(likeCount, commentCount)에 주기적으로 반영합니다.
+ * 조회수(checkCount)는 SuggestWeightRefresher가 가중치와 함께 보냅니다.
+ * post_stats에 마지막으로 보낸 값을 두고, 현재 값과 다른 글만 posts_write에 부분 update로 묶어 보냅니다.
+ * 후보 조건은 부분 인덱스 idx_post_stats_signal_pending(PostSearchIndexInitializer)과 같아, 한 번의 실행 비용은
+ * 전체 글 수가 아니라 바뀐 글 수에 비례합니다.
+ * 전체 INDEX는 이 두 필드를 덮어쓰므로 PostBulkIndexer가 반영 후 해당 글의 기록을 비워 다시 보내게 합니다.
+ * 한 번의 실행은 문서 수 예산(max-docs-per-run)과 초당 문서 수 제한 안에서 끝나며,
+ * 다음 실행은 Redis에 남긴 post_id 다음부터 이어서 한 바퀴를 돕니다. 여러 노드 중 한 곳에서만 돕니다.
+ */
+@Slf4j
+@Service
+public class PostSignalSync {
+
+    private static final String CURSOR_KEY = "search:signals:cursor";
+    private static final String LOCK_KEY = "search:signals:lock";
+    private static final Duration CURSOR_TTL = Duration.ofDays(2);
+
+    // 조건을 바꾸면 idx_post_stats_signal_pending의 조건도 같이 바꿔야 함
+    private static final String CANDIDATE_SQL = """
+            select s.post_id, s.like_count, s.comment_count, s.signal_likes, s.signal_comments
+              from post_stats s
+             where s.post_id > ?
+               and (s.signal_likes is distinct from s.like_count
+                    or s.signal_comments is distinct from s.comment_count)
+             order by s.post_id
+             limit ?
+            """;
+
+    private final ElasticsearchClient es;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redis;
+    private final RedisJobLock lock;
+    private final ThreadPoolTaskExecutor runner;
+    private final int sliceSize;
+    private final int maxDocsPerRun;
+    private final int maxDocsPerSecond;
+    private final Duration lockTtl;
+
+    public PostSignalSync(
+            ElasticsearchClient es,
+            JdbcTemplate jdbcTemplate,
+            StringRedisTemplate redis,
+            @Value("${app.search.signals.slice-size:500}") int sliceSize,
+            @Value("${app.search.signals.max-docs-per-run:5000}") int maxDocsPerRun,
+            @Value("${app.search.signals.max-docs-per-second:500}") int maxDocsPerSecond
+    ) {
+        this.es = es;
+        this.jdbcTemplate = jdbcTemplate;
+        this.redis = redis;
+        this.sliceSize = sliceSize;
+        this.maxDocsPerRun = maxDocsPerRun;
+        this.maxDocsPerSecond = Math.max(1, maxDocsPerSecond);
+        // 제한 속도로 예산을 다 쓰는 시간 + 여유
+        this.lockTtl = Duration.ofSeconds(maxDocsPerRun / this.maxDocsPerSecond + 60L);
+        this.lock = new RedisJobLock(redis, LOCK_KEY);
+
+        // 스레드 1개, 대기열 없음: 이전 실행이 아직 돌고 있으면 이번 실행은 건너뜀
+        this.runner = new ThreadPoolTaskExecutor();
+        runner.setCorePoolSize(1);
+        runner.setMaxPoolSize(1);
+        runner.setQueueCapacity(0);
+        runner.setThreadNamePrefix("post-signals-");
+        runner.initialize();
+    }
+
+    /** 템플릿보다 먼저 만들어진 인덱스에도 likeCount/commentCount 매핑을 추가 (이미 있으면 그대로) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureMapping() {
+        try {
+            es.indices().putMapping(m -> m
+                    .index(SearchConstants.INDEX_POSTS_WRITE)
+                    .properties("likeCount", p -> p.long_(l -> l))
+                    .properties("commentCount", p -> p.long_(l -> l)));
+        } catch (Exception e) {
+            log.warn("post signal mapping not applied: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.signals.interval-ms:60000}", initialDelay = 30_000)
+    public void sync() {
+        try {
+            runner.execute(this::runSync);
+        } catch (TaskRejectedException e) {
+            log.debug("post signal sync still running; skipped this run");
+        }
+    }
+
+    void runSync() {
+        String token = lock.tryAcquire(lockTtl);
+        if (token == null) return;
+
+        long from = readCursor();
+        long after = from;
+        int pushed = 0;
+        boolean wrapped = false;
+        try {
+            while (pushed < maxDocsPerRun) {
+                long sliceStart = System.currentTimeMillis();
+                int limit = Math.min(sliceSize, maxDocsPerRun - pushed);
+                List<Candidate> rows = jdbcTemplate.query(CANDIDATE_SQL,
+                        (rs, i) -> new Candidate(rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                                rs.getObject(4, Long.class), rs.getObject(5, Long.class)),
+                        after, limit);
+                if (rows.isEmpty()) {
+                    // 끝까지 왔으면 처음부터 한 번 더 (이번 실행에서 이미 한 바퀴 돌았으면 종료)
+                    if (wrapped || after == 0L) {
+                        after = 0L;
+                        break;
+                    }
+                    wrapped = true;
+                    after = 0L;
+                    continue;
+                }
+
+                record(push(rows));
+                pushed += rows.size();
+                after = rows.get(rows.size() - 1).postId();
+                writeCursor(after);
+
+                long minMs = rows.size() * 1000L / maxDocsPerSecond;
+                long elapsed = System.currentTimeMillis() - sliceStart;
+                if (minMs > elapsed) Thread.sleep(minMs - elapsed);
+            }
+            writeCursor(after);
+            if (pushed > 0) {
+                log.debug("post signals synced: docs={}, from={}, next={}", pushed, from, after);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("post signal sync interrupted (cursor={})", after);
+        } catch (Exception e) {
+            // 기록되지 않은 글은 값이 계속 달라 다음 실행에서 다시 후보가 됨
+            log.error("Failed to sync post signals (cursor={})", after, e);
+        } finally {
+            lock.release(token);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdown();
+    }
+
+    /** 후보를 부분 update로 보내고 ES가 받아들인 항목만 돌려줍니다. */
+    private List<Candidate> push(List<Candidate> rows) throws Exception {
+        BulkRequest.Builder br = new BulkRequest.Builder().index(SearchConstants.INDEX_POSTS_WRITE);
+        for (Candidate row : rows) {
+            Map<String, Object> partial = Map.of(
+                    "likeCount", row.likes(),
+                    "commentCount", row.comments());
+            br.operations(o -> o.update(u -> u
+                    .id(String.valueOf(row.postId()))
+                    .retryOnConflict(3)
+                    .action(a -> a.doc(partial))));
+        }
+
+        BulkResponse resp = es.bulk(br.build());
+        List<Candidate> done = new ArrayList<>(rows.size());
+        List<BulkResponseItem> items = resp.items();
+        for (int i = 0; i < rows.size() && i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            if (item.error() == null) {
+                done.add(rows.get(i));
+            } else if (item.status() != 404 && item.status() != 409 && item.status() != 429 && item.status() < 500) {
+                // 매핑 오류 등은 재시도해도 같으므로 기록만 하고 넘어감
+                done.add(rows.get(i));
+                log.warn("post signal update rejected: postId={}, status={}, reason={}",
+                        rows.get(i).postId(), item.status(), item.error().reason());
+            }
+            // 404: 아직 색인 전인 글 → 기록하지 않아 색인 후 다음 실행에서 반영
+        }
+        return done;
+    }
+
+    /**
+     * 보낸 값을 기록합니다. 읽은 뒤 기록이 바뀐 행(그 사이 INDEX 반영으로 비워진 경우)은 건드리지 않아
+     * 다음 실행에서 다시 보내게 합니다.
+     */
+    private void record(List<Candidate> rows) {
+        if (rows.isEmpty()) return;
+        StringBuilder sql = new StringBuilder(
+                "UPDATE post_stats s SET signal_likes = v.likes, signal_comments = v.comments FROM (VALUES ");
+        Object[] args = new Object[rows.size() * 5];
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(',');
+            sql.append("(CAST(? AS bigint), CAST(? AS bigint), CAST(? AS bigint), CAST(? AS bigint), CAST(? AS bigint))");
+            Candidate r = rows.get(i);
+            args[i * 5] = r.postId();
+            args[i * 5 + 1] = r.likes();
+            args[i * 5 + 2] = r.comments();
+            args[i * 5 + 3] = r.sentLikes();
+            args[i * 5 + 4] = r.sentComments();
+        }
+        sql.append(") AS v(post_id, likes, comments, sent_likes, sent_comments)")
+                .append(" WHERE s.post_id = v.post_id")
+                .append(" AND s.signal_likes IS NOT DISTINCT FROM v.sent_likes")
+                .append(" AND s.signal_comments IS NOT DISTINCT FROM v.sent_comments");
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private long readCursor() {
+        try {
+            String v = redis.opsForValue().get(CURSOR_KEY);
+            return (v == null) ? 0L : Long.parseLong(v);
+        } catch (Exception e) {
+            return 0L;
+        }
+    }
+
+    private void writeCursor(long cursor) {
+        try {
+            if (cursor == 0L) redis.delete(CURSOR_KEY);
+            else redis.opsForValue().set(CURSOR_KEY, String.valueOf(cursor), CURSOR_TTL);
+        } catch (Exception e) {
+            log.debug("post signal cursor not saved: {}", e.getMessage());
+        }
+    }
+
+    /** sentLikes/sentComments: 읽을 때의 기록(마지막으로 보낸 값) */
+    private record Candidate(long postId, long likes, long comments, Long sentLikes, Long sentComments) {
+    }
+}
@@ -0,0 +1,60 @@
+package core.global.search.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 노드 중 한 곳에서만 배치가 돌도록 잡는 Redis 잠금.
+ * 값으로 실행마다 새 토큰을 두고, 해제는 토큰이 같을 때만 지웁니다.
+ * TTL이 지나 다른 노드가 잡은 잠금을 늦게 끝난 실행이 지우지 않게 하기 위함입니다.
+ */
+@Slf4j
+final class RedisJobLock {
+
+    /** Redis에 닿지 못해 잠금 없이 진행하는 경우의 토큰 */
+    static final String UNLOCKED = "";
+
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final String key;
+
+    RedisJobLock(StringRedisTemplate redis, String key) {
+        this.redis = redis;
+        this.key = key;
+    }
+
+    /**
+     * 잠금을 잡으면 토큰, 다른 노드가 잡고 있으면 null.
+     * Redis 장애 시에는 UNLOCKED를 돌려 잠금 없이 진행합니다 (중복 실행돼도 같은 값을 쓸 뿐).
+     */
+    String tryAcquire(Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean ok = redis.opsForValue().setIfAbsent(key, token, ttl);
+            return Boolean.TRUE.equals(ok) ? token : null;
+        } catch (Exception e) {
+            log.debug("job lock skipped: key={}: {}", key, e.getMessage());
+            return UNLOCKED;
+        }
+    }
+
+    void release(String token) {
+        if (token == null || token.equals(UNLOCKED)) return;
+        try {
+            redis.execute(RELEASE, List.of(key), token);
+        } catch (Exception e) {
+            log.debug("job unlock failed: key={}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package core.global.search.scheduler;
+
+import core.domain.post.entity.Post;
+import core.domain.post.repository.PostRepository;
+import core.global.search.dto.PostDocument;
+import core.global.search.repository.SearchOutboxRepository;
+import core.global.search.service.PostBulkIndexer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * search_outbox를 id 순으로 가져가 PostBulkIndexer에 넘깁니다.
+ * 가져갈 때 FOR UPDATE SKIP LOCKED + claimed_at lease를 쓰므로 여러 노드가 겹치지 않게 나눠 처리하고,
+ * 노드가 죽어도 lease가 지나면 다른 노드가 다시 가져갑니다.
+ * 문서는 이벤트 당시 값이 아니라 현재 DB 상태로 만들고(없으면 삭제), 버전은 그 글의 가장 큰 outbox id입니다.
+ */
+@Slf4j
+@Service
+public class SearchOutboxRelay {
+
+    private static final String CLAIM_SQL = """
+            update search_outbox o
+               set claimed_at = now(),
+                   attempts = o.attempts + 1
+             where o.outbox_id in (
+                   select outbox_id
+                     from search_outbox
+                    where processed_at is null
+                      and (claimed_at is null or claimed_at < ?)
+                    order by outbox_id
+                    limit ?
+                      for update skip locked)
+            returning o.outbox_id, o.post_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final PostRepository postRepository;
+    private final PostBulkIndexer postBulkIndexer;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retention;
+
+    private final AtomicLong checkpoint = new AtomicLong();
+
+    public SearchOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            SearchOutboxRepository searchOutboxRepository,
+            PostRepository postRepository,
+            PostBulkIndexer postBulkIndexer,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.search.outbox.batch-size:500}") int batchSize,
+            @Value("${app.search.outbox.lease-seconds:60}") long leaseSeconds,
+            @Value("${app.search.outbox.retention-days:7}") long retentionDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchOutboxRepository = searchOutboxRepository;
+        this.postRepository = postRepository;
+        this.postBulkIndexer = postBulkIndexer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retention = Duration.ofDays(retentionDays);
+        meterRegistry.gauge("search.outbox.checkpoint", checkpoint, AtomicLong::get);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        try {
+            // ES가 느리면 인덱서 큐가 찰 때까지만 가져가고 나머지는 다음 주기로
+            while (postBulkIndexer.pendingCount() < batchSize * 4) {
+                int claimed = relayBatch();
+                if (claimed < batchSize) break;
+            }
+            checkpoint.set(searchOutboxRepository.findCheckpoint());
+        } catch (Exception e) {
+            log.error("search outbox relay failed (checkpoint={})", checkpoint.get(), e);
+        }
+    }
+
+    private int relayBatch() {
+        Timestamp leaseExpiredBefore = Timestamp.from(Instant.now().minus(lease));
+        List<long[]> rows = jdbcTemplate.query(CLAIM_SQL,
+                (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                leaseExpiredBefore, batchSize);
+        if (rows.isEmpty()) return 0;
+
+        // postId별로 outbox id 모으기 (RETURNING 순서는 보장되지 않으므로 정렬)
+        rows.sort((a, b) -> Long.compare(a[0], b[0]));
+        Map<Long, List<Long>> outboxIdsByPost = new LinkedHashMap<>();
+        for (long[] r : rows) {
+            outboxIdsByPost.computeIfAbsent(r[1], k -> new ArrayList<>()).add(r[0]);
+        }
+
+        // 복제본 지연으로 옛 내용이 높은 버전을 달고 나가지 않도록 primary(읽기/쓰기 트랜잭션)에서 읽음
+        Map<Long, PostDocument> docs = transactionTemplate.execute(status ->
+                postRepository.findAllById(outboxIdsByPost.keySet()).stream()
+                        .collect(Collectors.toMap(Post::getId, PostDocument::new)));
+
+        outboxIdsByPost.forEach((postId, outboxIds) -> {
+            long version = outboxIds.get(outboxIds.size() - 1);
+            PostDocument doc = (docs == null) ? null : docs.get(postId);
+            if (doc == null) {
+                postBulkIndexer.enqueueDelete(postId, version, outboxIds);
+            } else {
+                postBulkIndexer.enqueueIndex(postId, doc, version, outboxIds);
+            }
+        });
+        return rows.size();
+    }
+
+    /**
+     * fromId 이후 아웃박스 행을 다시 반영하도록 되돌립니다. 보존 기간이 지나 삭제된 행은 대상이 아닙니다.
+     */
+    public int replayFrom(long fromId) {
+        int reset = searchOutboxRepository.replayFrom(fromId);
+        log.info("search outbox replay requested: fromId={}, rows={}", fromId, reset);
+        return reset;
+    }
+
+    // 매일 04:30 처리 완료 행 정리
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void purge() {
+        try {
+            int purged = searchOutboxRepository.purgeProcessedBefore(Instant.now().minus(retention));
+            log.info("search outbox purged: rows={}", purged);
+        } catch (Exception e) {
+            log.error("Failed to purge search outbox", e);
+        }
+    }
+}
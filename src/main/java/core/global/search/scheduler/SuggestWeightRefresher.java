@@ -1,57 +1,284 @@
 package core.global.search.scheduler;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.Conflicts;
-import co.elastic.clients.json.JsonData;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import core.global.search.SearchConstants;
-import lombok.RequiredArgsConstructor;
+import core.global.search.dto.PostDocument;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * 자동완성 가중치(contentSuggest/contentSuggestExact.weight) 증분 갱신.
+ * post_stats에 마지막으로 반영한 가중치와 그때의 조회수를 두고, 조회수가 바뀌었거나 최신성 감쇠가 아직 의미 있는 글만
+ * PostDocument.weight로 다시 계산해 정수 가중치나 조회수가 달라진 글만 부분 update로 보냅니다.
+ * 조회수가 바뀐 글은 PostViewCountBuffer가 세운 suggest_dirty로, 아직 반영 전인 글은 suggest_weight null로
+ * 부분 인덱스(idx_post_stats_suggest_pending)에서 찾고, 최신 글은 최신성 창의 첫 post_id부터만 훑습니다.
+ * 그래서 한 번의 실행 비용은 전체 글 수가 아니라 바뀐 글 수와 최신성 창 크기에 비례합니다.
+ * ES 문서의 checkCount는 이 작업만 갱신합니다.
+ * post_id 키셋 슬라이스 단위로 처리하며 초당 문서 수를 제한하고, 실행 시간이 다 되면 커서를 Redis에 남겨 다음 실행이 이어갑니다.
+ * 최대 max-run-seconds 동안 쉬어 가며 도는 작업이라 공용 스케줄러 스레드가 아닌 전용 스레드에서 실행합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SuggestWeightRefresher {
 
+    private static final String CURSOR_KEY = "search:suggest-weight:cursor";
+    private static final String LOCK_KEY = "search:suggest-weight:lock";
+    private static final Duration CURSOR_TTL = Duration.ofDays(2);
+
+    // 첫 분기의 조건을 바꾸면 idx_post_stats_suggest_pending의 조건도 같이 바꿔야 함
+    private static final String CANDIDATE_SQL = """
+            select s.post_id,
+                   p.check_count,
+                   cast(extract(epoch from p.created_at) * 1000 as bigint),
+                   s.suggest_weight,
+                   s.suggest_views
+              from post_stats s
+              join post p on p.post_id = s.post_id
+             where s.post_id in (
+                    (select d.post_id from post_stats d
+                      where d.post_id > ?
+                        and (d.suggest_weight is null or d.suggest_dirty)
+                      order by d.post_id
+                      limit ?)
+                    union all
+                    (select f.post_id from post f
+                      where f.post_id > ?
+                        and f.created_at >= ?
+                      order by f.post_id
+                      limit ?))
+             order by s.post_id
+             limit ?
+            """;
+
+    private static final String FRESH_FLOOR_SQL = "select min(post_id) from post where created_at >= ?";
+
     private final ElasticsearchClient es;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redis;
+    private final RedisJobLock lock;
+    private final ThreadPoolTaskExecutor runner;
+    private final int sliceSize;
+    private final int maxDocsPerSecond;
+    private final Duration maxRun;
+    private final Duration freshWindow;
+
+    public SuggestWeightRefresher(
+            ElasticsearchClient es,
+            JdbcTemplate jdbcTemplate,
+            StringRedisTemplate redis,
+            @Value("${app.search.suggest-weight.slice-size:500}") int sliceSize,
+            @Value("${app.search.suggest-weight.max-docs-per-second:500}") int maxDocsPerSecond,
+            @Value("${app.search.suggest-weight.max-run-seconds:600}") long maxRunSeconds,
+            // 180일이 지나면 최신성 항이 35*exp(-6) ≈ 0.09점이라 조회수가 그대로면 정수 가중치가 사실상 바뀌지 않음
+            @Value("${app.search.suggest-weight.fresh-days:180}") long freshDays
+    ) {
+        this.es = es;
+        this.jdbcTemplate = jdbcTemplate;
+        this.redis = redis;
+        this.sliceSize = sliceSize;
+        this.maxDocsPerSecond = Math.max(1, maxDocsPerSecond);
+        this.maxRun = Duration.ofSeconds(maxRunSeconds);
+        this.freshWindow = Duration.ofDays(freshDays);
+        this.lock = new RedisJobLock(redis, LOCK_KEY);
+
+        // 스레드 1개, 대기열 없음: 이전 실행이 아직 돌고 있으면 이번 실행은 건너뜀
+        this.runner = new ThreadPoolTaskExecutor();
+        runner.setCorePoolSize(1);
+        runner.setMaxPoolSize(1);
+        runner.setQueueCapacity(0);
+        runner.setThreadNamePrefix("suggest-weight-");
+        runner.initialize();
+    }
 
-    // 매일 03:00
-    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    // 매시 15분
+    @Scheduled(cron = "0 15 * * * *", zone = "Asia/Seoul")
     public void refreshWeights() {
         try {
-            es.updateByQuery(u -> u
-                    .index(SearchConstants.INDEX_POSTS_SUGGEST)
-                    .conflicts(Conflicts.Proceed)   // ⬅️ enum 사용
-                    .refresh(true)
-                    .script(s -> s
-                            .lang("painless")
-                            .source("""
-                                        long now = new Date().getTime();
-                                        long cc = (ctx._source.containsKey('checkCount') && ctx._source.checkCount != null) ? ctx._source.checkCount : 0;
-                                        long created = (ctx._source.containsKey('createdAt') && ctx._source.createdAt != null) ? ctx._source.createdAt : now;
-                                        double ageDays = (now - created) / 86400000.0;
-                                        double fresh = Math.exp(-ageDays / params.halfLifeDays);
-                                        double pop = Math.log1p(cc) / Math.log1p(params.popNorm);
-                                        if (pop > 1.0) pop = 1.0;
-                                        double score = params.alpha * pop + (1 - params.alpha) * fresh;
-                                        int w = (int)Math.round(100.0 * Math.max(0.0, Math.min(1.0, score)));
-                                        if (ctx._source.contentSuggest instanceof Map) { ctx._source.contentSuggest.weight = w; }
-                                        if (ctx._source.contentSuggestExact instanceof Map) { ctx._source.contentSuggestExact.weight = w; }
-                                    """)
-                            .params(Map.of(
-                                    "halfLifeDays", JsonData.of(30),
-                                    "popNorm", JsonData.of(1000),
-                                    "alpha", JsonData.of(0.65)
-                            ))
-                    )
-            );
-            log.info("Suggest weights refreshed");
-        } catch (IOException e) {
-            log.error("Failed to refresh suggest weights", e);
+            runner.execute(this::runRefresh);
+        } catch (TaskRejectedException e) {
+            log.info("Suggest weight refresh still running; skipped this run");
+        }
+    }
+
+    void runRefresh() {
+        String token = lock.tryAcquire(maxRun.plusMinutes(1));
+        if (token == null) return;
+
+        long cursor = readCursor();
+        long startCursor = cursor;
+        long scanned = 0;
+        long pushed = 0;
+        long deadline = System.currentTimeMillis() + maxRun.toMillis();
+        Timestamp freshSince = Timestamp.from(Instant.now().minus(freshWindow));
+        try {
+            // 최신성 창 안의 첫 글 바로 앞. 최신 글 분기는 여기서부터 PK 범위만 읽음 (창 안에 글이 없으면 건너뜀)
+            Long freshFirst = jdbcTemplate.queryForObject(FRESH_FLOOR_SQL, Long.class, freshSince);
+            long freshFloor = (freshFirst == null) ? Long.MAX_VALUE : freshFirst - 1;
+
+            while (System.currentTimeMillis() < deadline) {
+                long sliceStart = System.currentTimeMillis();
+                List<Candidate> slice = jdbcTemplate.query(CANDIDATE_SQL,
+                        (rs, i) -> new Candidate(rs.getLong(1), rs.getLong(2),
+                                rs.getObject(3, Long.class), rs.getObject(4, Integer.class),
+                                rs.getObject(5, Long.class)),
+                        cursor, sliceSize, Math.max(cursor, freshFloor), freshSince, sliceSize, sliceSize);
+                if (slice.isEmpty()) {
+                    cursor = 0L;
+                    break;
+                }
+
+                int sent = refreshSlice(slice);
+                scanned += slice.size();
+                pushed += sent;
+                cursor = (slice.size() < sliceSize) ? 0L : slice.get(slice.size() - 1).postId();
+                writeCursor(cursor);
+                if (cursor == 0L) break;
+
+                throttle(sent, System.currentTimeMillis() - sliceStart);
+            }
+            log.info("Suggest weights refreshed: scanned={}, updated={}, from={}, next={}",
+                    scanned, pushed, startCursor, cursor == 0L ? "done" : cursor);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Suggest weight refresh interrupted (cursor={})", cursor);
+        } catch (Exception e) {
+            // 커서는 마지막으로 끝난 슬라이스에 남아 있으므로 다음 실행이 그 다음부터 이어감
+            log.error("Failed to refresh suggest weights (cursor={})", cursor, e);
+        } finally {
+            lock.release(token);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 쉬는 중인 실행을 깨워 멈춤. 커서는 마지막으로 끝난 슬라이스에 남아 있음
+        runner.shutdown();
+    }
+
+    /**
+     * 슬라이스의 가중치를 다시 계산해 가중치나 조회수가 달라진 글만 ES에 보내고, 반영된 글과 달라지지 않은 글의 기록을 갱신합니다.
+     * ES가 거절했거나 재시도가 필요한 글은 기록하지 않아 다음 실행에서 다시 후보가 됩니다.
+     */
+    private int refreshSlice(List<Candidate> slice) throws IOException {
+        List<long[]> record = new ArrayList<>(slice.size());
+        List<long[]> changed = new ArrayList<>();
+        for (Candidate c : slice) {
+            int w = PostDocument.weight(c.views(), c.createdAtMillis());
+            long[] row = {c.postId(), w, c.views()};
+            if (c.weight() != null && c.weight() == w && c.sentViews() != null && c.sentViews() == c.views()) {
+                record.add(row);
+            } else {
+                changed.add(row);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            record.addAll(push(changed));
+        }
+        if (!record.isEmpty()) {
+            recordWeights(record);
         }
+        return changed.size();
+    }
+
+    /** [postId, weight, views] 목록을 부분 update로 보내고 더 이상 보낼 필요가 없는 항목을 돌려줍니다. */
+    private List<long[]> push(List<long[]> changed) throws IOException {
+        BulkRequest.Builder br = new BulkRequest.Builder().index(SearchConstants.INDEX_POSTS_WRITE);
+        for (long[] row : changed) {
+            Map<String, Object> weight = Map.of("weight", (int) row[1]);
+            Map<String, Object> partial = Map.of(
+                    "checkCount", row[2],
+                    "contentSuggest", weight,
+                    "contentSuggestExact", weight);
+            br.operations(o -> o.update(u -> u
+                    .id(String.valueOf(row[0]))
+                    .retryOnConflict(3)
+                    .action(a -> a.doc(partial))));
+        }
+
+        BulkResponse resp = es.bulk(br.build());
+        List<long[]> done = new ArrayList<>(changed.size());
+        List<BulkResponseItem> items = resp.items();
+        for (int i = 0; i < changed.size() && i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            int st = item.status();
+            if (item.error() == null || st == 404) {
+                // 404: 아직 색인되지 않은 글. 색인될 때 PostDocument가 같은 식으로 가중치를 계산함
+                done.add(changed.get(i));
+            } else if (st == 409 || st == 429 || st >= 500) {
+                log.debug("suggest weight update deferred: postId={}, status={}", changed.get(i)[0], st);
+            } else {
+                done.add(changed.get(i));
+                log.warn("suggest weight update rejected: postId={}, status={}, reason={}",
+                        changed.get(i)[0], st, item.error().reason());
+            }
+        }
+        return done;
+    }
+
+    /**
+     * 반영한 가중치와 조회수를 기록합니다. 읽은 뒤 조회수가 또 바뀐 글은 suggest_dirty를 남겨 다음 실행에서 다시 봅니다.
+     */
+    private void recordWeights(List<long[]> rows) {
+        StringBuilder sql = new StringBuilder(
+                "UPDATE post_stats s SET suggest_weight = v.w, suggest_views = v.views,"
+                        + " suggest_dirty = (p.check_count <> v.views) FROM (VALUES ");
+        Object[] args = new Object[rows.size() * 3];
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(',');
+            sql.append("(CAST(? AS bigint), CAST(? AS integer), CAST(? AS bigint))");
+            args[i * 3] = rows.get(i)[0];
+            args[i * 3 + 1] = (int) rows.get(i)[1];
+            args[i * 3 + 2] = rows.get(i)[2];
+        }
+        sql.append(") AS v(post_id, w, views) JOIN post p ON p.post_id = v.post_id WHERE s.post_id = v.post_id");
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /** 보낸 문서 수 기준으로 maxDocsPerSecond를 넘지 않도록 슬라이스 사이에 쉽니다. */
+    private void throttle(int sent, long elapsedMs) throws InterruptedException {
+        long minMs = sent * 1000L / maxDocsPerSecond;
+        if (minMs > elapsedMs) {
+            Thread.sleep(minMs - elapsedMs);
+        }
+    }
+
+    private long readCursor() {
+        try {
+            String v = redis.opsForValue().get(CURSOR_KEY);
+            return (v == null) ? 0L : Long.parseLong(v);
+        } catch (Exception e) {
+            return 0L;
+        }
+    }
+
+    private void writeCursor(long cursor) {
+        try {
+            if (cursor == 0L) redis.delete(CURSOR_KEY);
+            else redis.opsForValue().set(CURSOR_KEY, String.valueOf(cursor), CURSOR_TTL);
+        } catch (Exception e) {
+            log.debug("suggest weight cursor not saved: {}", e.getMessage());
+        }
+    }
+
+    private record Candidate(long postId, long views, Long createdAtMillis, Integer weight, Long sentViews) {
     }
 }
@@ -0,0 +1,232 @@
+package core.global.search.service;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 검색/서제스트의 ES 호출 보호막: 작업별 타임아웃 + bulkhead(동시 실행 제한) + 서킷 브레이커.
+ * 서킷이 열렸거나, bulkhead가 찼거나, 타임아웃/ES 오류가 나면 호출자가 넘긴 Postgres 대체 구현으로 넘어갑니다.
+ * 잘못된 요청(4xx, 429 제외)은 ES 장애가 아니므로 서킷에 기록하지 않고 그대로 던집니다.
+ * 호출자는 ES 클라이언트가 돌려준 원래 future를 {@link InFlight#track}으로 등록합니다. 타임아웃이 나면 그 future를 cancel해
+ * HTTP 요청 자체를 중단하고, bulkhead 자리는 등록된 요청이 모두 끝난(취소 포함) 뒤에 반납합니다.
+ * 서킷 상태와 bulkhead 사용량은 resilience4j.* 지표로, 대체 경로 사용은 search.fallback{op,reason}으로 보고합니다.
+ */
+@Slf4j
+@Service
+public class ElasticsearchGuard {
+
+    public enum Op { SEARCH, SUGGEST }
+
+    private final CircuitBreaker breaker;
+    private final Map<Op, Bulkhead> bulkheads = new EnumMap<>(Op.class);
+    private final Map<Op, Duration> timeouts = new EnumMap<>(Op.class);
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor fallbackExecutor;
+
+    public ElasticsearchGuard(
+            MeterRegistry meterRegistry,
+            @Value("${app.search.resilience.search-timeout-ms:3000}") long searchTimeoutMs,
+            @Value("${app.search.resilience.suggest-timeout-ms:800}") long suggestTimeoutMs,
+            @Value("${app.search.resilience.search-max-concurrent:32}") int searchMaxConcurrent,
+            @Value("${app.search.resilience.suggest-max-concurrent:64}") int suggestMaxConcurrent,
+            @Value("${app.search.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.search.resilience.slow-call-ms:1500}") long slowCallMs,
+            @Value("${app.search.resilience.open-seconds:30}") long openSeconds
+    ) {
+        this.meterRegistry = meterRegistry;
+
+        CircuitBreakerRegistry breakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(80)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMs))
+                .slidingWindowSize(50)
+                .minimumNumberOfCalls(20)
+                .waitDurationInOpenState(Duration.ofSeconds(openSeconds))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .ignoreException(ElasticsearchGuard::isClientError)
+                .build());
+        this.breaker = breakers.circuitBreaker("elasticsearch");
+        this.breaker.getEventPublisher().onStateTransition(e ->
+                log.warn("elasticsearch circuit breaker: {}", e.getStateTransition()));
+
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        bulkheads.put(Op.SEARCH, bulkheadRegistry.bulkhead("es-search", bulkhead(searchMaxConcurrent)));
+        bulkheads.put(Op.SUGGEST, bulkheadRegistry.bulkhead("es-suggest", bulkhead(suggestMaxConcurrent)));
+        timeouts.put(Op.SEARCH, Duration.ofMillis(searchTimeoutMs));
+        timeouts.put(Op.SUGGEST, Duration.ofMillis(suggestTimeoutMs));
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(breakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+
+        // ES IO 스레드에서 JDBC를 돌리지 않도록 비동기 대체 조회는 별도 풀에서
+        this.fallbackExecutor = new ThreadPoolTaskExecutor();
+        fallbackExecutor.setCorePoolSize(2);
+        fallbackExecutor.setMaxPoolSize(8);
+        fallbackExecutor.setQueueCapacity(200);
+        fallbackExecutor.setThreadNamePrefix("search-fallback-");
+        fallbackExecutor.initialize();
+    }
+
+    /**
+     * 동기 호출: 현재 스레드에서 최대 타임아웃만큼 기다리고, 실패하면 현재 스레드에서 fallback을 실행합니다.
+     */
+    public <T> T call(Op op, Function<InFlight, CompletableFuture<T>> call, Supplier<T> fallback) {
+        try {
+            return guarded(op, call).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback(op, e, fallback);
+        } catch (ExecutionException | CancellationException e) {
+            Throwable cause = unwrap(e);
+            if (isClientError(cause)) throw (ElasticsearchException) cause;
+            return fallback(op, cause, fallback);
+        }
+    }
+
+    /**
+     * 비동기 호출: 실패하면 fallback을 별도 풀에서 실행한 결과로 완료됩니다.
+     */
+    public <T> CompletableFuture<T> callAsync(Op op, Function<InFlight, CompletableFuture<T>> call, Supplier<T> fallback) {
+        return guarded(op, call).handle((r, e) -> {
+            if (e == null) return CompletableFuture.completedFuture(r);
+            Throwable cause = unwrap(e);
+            if (isClientError(cause)) return CompletableFuture.<T>failedFuture(cause);
+            return CompletableFuture.supplyAsync(() -> fallback(op, cause, fallback), fallbackExecutor);
+        }).thenCompose(Function.identity());
+    }
+
+    private <T> CompletableFuture<T> guarded(Op op, Function<InFlight, CompletableFuture<T>> call) {
+        if (!breaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(CallNotPermittedException.createCallNotPermittedException(breaker));
+        }
+        Bulkhead bulkhead = bulkheads.get(op);
+        if (!bulkhead.tryAcquirePermission()) {
+            breaker.releasePermission();
+            return CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+
+        long start = System.nanoTime();
+        InFlight requests = new InFlight();
+        CompletableFuture<T> result;
+        try {
+            result = call.apply(requests);
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        // 호출자 future는 캐시 등이 공유할 수 있으므로 파생 future에 타임아웃을 걸고, 취소는 등록된 ES 요청에 직접 함
+        return result.thenApply(Function.<T>identity())
+                .orTimeout(timeouts.get(op).toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((r, e) -> {
+                    long elapsed = System.nanoTime() - start;
+                    if (e == null) {
+                        breaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                    } else {
+                        Throwable cause = unwrap(e);
+                        if (cause instanceof TimeoutException) requests.cancelAll();
+                        breaker.onError(elapsed, TimeUnit.NANOSECONDS, cause);
+                    }
+                    requests.settled().whenComplete((v, x) -> bulkhead.onComplete());
+                });
+    }
+
+    /**
+     * 한 번의 보호 호출 안에서 보낸 ES 요청들. ES 클라이언트가 돌려준 future를 그대로 등록해야
+     * cancel이 HTTP 요청 중단으로 이어집니다 (thenApply 등으로 파생된 future는 취소가 원래 요청에 전달되지 않음).
+     */
+    public static final class InFlight {
+        private final List<CompletableFuture<?>> requests = new CopyOnWriteArrayList<>();
+        private volatile boolean cancelled;
+
+        public <R> CompletableFuture<R> track(CompletableFuture<R> request) {
+            requests.add(request);
+            // 타임아웃 뒤에 이어서 보내진 요청(PIT 다음 검색 등)은 바로 중단
+            if (cancelled) request.cancel(true);
+            return request;
+        }
+
+        void cancelAll() {
+            cancelled = true;
+            requests.forEach(r -> r.cancel(true));
+        }
+
+        /** 등록된 요청이 성공/실패/취소로 모두 끝나면 완료 */
+        CompletableFuture<Void> settled() {
+            return CompletableFuture.allOf(requests.stream()
+                    .map(r -> r.handle((x, e) -> null))
+                    .toArray(CompletableFuture[]::new));
+        }
+    }
+
+    private <T> T fallback(Op op, Throwable cause, Supplier<T> fallback) {
+        String reason = reasonOf(cause);
+        meterRegistry.counter("search.fallback", "op", op.name().toLowerCase(), "reason", reason).increment();
+        if (cause instanceof CallNotPermittedException) {
+            log.debug("[ES] {} degraded to postgres: circuit open", op);
+        } else {
+            log.warn("[ES] {} degraded to postgres ({}): {}", op, reason, cause.toString());
+        }
+        return fallback.get();
+    }
+
+    private static String reasonOf(Throwable cause) {
+        if (cause instanceof CallNotPermittedException) return "open";
+        if (cause instanceof BulkheadFullException) return "bulkhead";
+        if (cause instanceof TimeoutException) return "timeout";
+        return "error";
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable t = e;
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+
+    /** 요청 자체가 잘못된 경우 (PIT 만료, 잘못된 쿼리 등) — ES 장애로 보지 않음 */
+    static boolean isClientError(Throwable e) {
+        return e instanceof ElasticsearchException ee
+                && ee.status() >= 400 && ee.status() < 500 && ee.status() != 429;
+    }
+
+    private static BulkheadConfig bulkhead(int maxConcurrent) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrent)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fallbackExecutor.shutdown();
+    }
+}
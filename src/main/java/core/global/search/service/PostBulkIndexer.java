@@ -0,0 +1,325 @@
+package core.global.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import core.domain.post.repository.PostStatsRepository;
+import core.global.search.SearchConstants;
+import core.global.search.dto.PostDocument;
+import core.global.search.repository.SearchOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 색인 벌크 파이프라인. SearchOutboxRelay가 가져온 아웃박스 행을 받아 ES에 반영합니다.
+ * postId별로 합쳐(버전이 높은 쪽 우선) 두었다가 건수/바이트/시간 중 먼저 닿는 조건에 _bulk 한 번으로 보냅니다.
+ * 실패한 항목은 항목 단위로 지수 백오프 후 재시도하고, ES가 받아들인 항목의 아웃박스 행만 처리 완료로 표시합니다.
+ * _bulk는 refresh=wait_for로 보내 검색에 보이게 된 뒤 돌아오고, 그때 반영된 게시판의 검색 결과 캐시를 무효화합니다.
+ */
+@Slf4j
+@Service
+public class PostBulkIndexer {
+
+    private static final long BASE_BACKOFF_MS = 500L;
+    private static final long MAX_BACKOFF_MS = 30_000L;
+
+    private final ElasticsearchClient searchClient;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final SearchResultCache searchResultCache;
+    private final PostStatsRepository postStatsRepository;
+    private final TaskExecutor executor;
+    private final int maxActions;
+    private final long maxBytes;
+    private final int maxAttempts;
+
+    private final Map<Long, PendingOp> pending = new ConcurrentHashMap<>();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    private final Counter indexed;
+    private final Counter retried;
+    private final Counter dropped;
+    private final Timer flushTimer;
+
+    public PostBulkIndexer(
+            ElasticsearchClient searchClient,
+            SearchOutboxRepository searchOutboxRepository,
+            SearchResultCache searchResultCache,
+            PostStatsRepository postStatsRepository,
+            @Qualifier("esEventsExecutor") TaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${app.search.bulk.max-actions:500}") int maxActions,
+            @Value("${app.search.bulk.max-bytes:5242880}") long maxBytes,
+            @Value("${app.search.bulk.max-attempts:8}") int maxAttempts
+    ) {
+        this.searchClient = searchClient;
+        this.searchOutboxRepository = searchOutboxRepository;
+        this.searchResultCache = searchResultCache;
+        this.postStatsRepository = postStatsRepository;
+        this.executor = executor;
+        this.maxActions = maxActions;
+        this.maxBytes = maxBytes;
+        this.maxAttempts = maxAttempts;
+
+        this.indexed = meterRegistry.counter("search.bulk.items", "result", "ok");
+        this.retried = meterRegistry.counter("search.bulk.items", "result", "retry");
+        this.dropped = meterRegistry.counter("search.bulk.items", "result", "dropped");
+        this.flushTimer = meterRegistry.timer("search.bulk.flush");
+        meterRegistry.gauge("search.bulk.queue.depth", pending, Map::size);
+        meterRegistry.gauge("search.bulk.queue.bytes", pendingBytes, AtomicLong::get);
+        meterRegistry.gauge("search.bulk.lag.seconds", this, PostBulkIndexer::lagSeconds);
+    }
+
+    /**
+     * @param version   search_outbox id. ES 외부 버전(SearchConstants.esVersion)으로 쓰이며, 낮은 버전은 ES가 거절하므로 순서가 뒤바뀌어도 안전합니다.
+     * @param outboxIds 반영이 확인되면 처리 완료로 표시할 아웃박스 행
+     */
+    public void enqueueIndex(Long postId, PostDocument doc, long version, List<Long> outboxIds) {
+        offer(postId, new PendingOp(doc, estimateBytes(doc), System.currentTimeMillis(), 0, 0L, version, outboxIds));
+    }
+
+    public void enqueueDelete(Long postId, long version, List<Long> outboxIds) {
+        offer(postId, new PendingOp(null, 64L, System.currentTimeMillis(), 0, 0L, version, outboxIds));
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /** 같은 postId가 대기 중이면 버전이 높은 쪽을 남기고 아웃박스 id는 합칩니다. */
+    private boolean offer(Long postId, PendingOp op) {
+        if (postId == null) return false;
+        PendingOp[] prev = new PendingOp[1];
+        PendingOp merged = pending.compute(postId, (id, old) -> {
+            prev[0] = old;
+            return (old == null) ? op : PendingOp.coalesce(old, op);
+        });
+        pendingBytes.addAndGet(merged.bytes - (prev[0] == null ? 0L : prev[0].bytes));
+
+        if (pending.size() >= maxActions || pendingBytes.get() >= maxBytes) {
+            triggerFlush();
+        }
+        return prev[0] == null;
+    }
+
+    private void triggerFlush() {
+        if (flushing.get()) return;
+        try {
+            executor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // 주기 flush가 처리
+        }
+    }
+
+    // refresh=wait_for로 최대 refresh 주기만큼 기다리므로 공용 스케줄러 스레드가 아닌 esEventsExecutor에서 보냄
+    @Scheduled(fixedDelayString = "${app.search.bulk.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (!pending.isEmpty()) triggerFlush();
+    }
+
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) return;
+        try {
+            while (true) {
+                Map<Long, PendingOp> batch = drain();
+                if (batch.isEmpty()) break;
+                flushTimer.record(() -> send(batch));
+                if (pending.size() < maxActions && pendingBytes.get() < maxBytes) break;
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("search bulk indexer stopped with {} pending operations", pending.size());
+        }
+    }
+
+    /** 재시도 대기 중이 아닌 항목을 maxActions/maxBytes 한도까지 꺼냅니다. */
+    private Map<Long, PendingOp> drain() {
+        long now = System.currentTimeMillis();
+        Map<Long, PendingOp> batch = new LinkedHashMap<>();
+        long bytes = 0L;
+        Iterator<Map.Entry<Long, PendingOp>> it = pending.entrySet().iterator();
+        while (it.hasNext() && batch.size() < maxActions && bytes < maxBytes) {
+            Map.Entry<Long, PendingOp> e = it.next();
+            PendingOp op = e.getValue();
+            if (op.notBefore > now) continue;
+            // 꺼내는 사이 새 이벤트로 바뀌었으면 다음 회차에 새 값을 보냄
+            if (!pending.remove(e.getKey(), op)) continue;
+            pendingBytes.addAndGet(-op.bytes);
+            batch.put(e.getKey(), op);
+            bytes += op.bytes;
+        }
+        return batch;
+    }
+
+    private void send(Map<Long, PendingOp> batch) {
+        List<Long> ids = new ArrayList<>(batch.keySet());
+        BulkRequest.Builder br = new BulkRequest.Builder()
+                .index(SearchConstants.INDEX_POSTS_WRITE)
+                // 응답 후 바로 캐시를 무효화하므로, 그 시점에 검색에도 보이도록 refresh까지 기다림
+                .refresh(Refresh.WaitFor);
+        for (Long id : ids) {
+            PendingOp op = batch.get(id);
+            String docId = String.valueOf(id);   // ES _id = postId
+            if (op.isDelete()) {
+                br.operations(o -> o.delete(d -> d
+                        .id(docId)
+                        .version(SearchConstants.esVersion(op.version))
+                        .versionType(VersionType.ExternalGte)));
+            } else {
+                br.operations(o -> o.index(i -> i
+                        .id(docId)
+                        .version(SearchConstants.esVersion(op.version))
+                        .versionType(VersionType.ExternalGte)
+                        .document(op.doc)));
+            }
+        }
+
+        BulkResponse resp;
+        try {
+            resp = searchClient.bulk(br.build());
+        } catch (Exception e) {
+            log.warn("search bulk request failed (items={}), will retry: {}", ids.size(), e.getMessage());
+            for (Long id : ids) retry(id, batch.get(id), e.getMessage());
+            return;
+        }
+
+        List<Long> done = new ArrayList<>();
+        Set<Long> boards = new HashSet<>();
+        List<Long> reindexed = new ArrayList<>();
+        List<BulkResponseItem> items = resp.items();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            PendingOp op = batch.get(id);
+            BulkResponseItem item = (i < items.size()) ? items.get(i) : null;
+            if (item == null) {
+                retry(id, op, "missing bulk item");
+            } else if (item.error() == null
+                    || item.status() == 409                       // 더 높은 버전이 이미 반영됨
+                    || (op.isDelete() && item.status() == 404)) {
+                indexed.increment();
+                done.addAll(op.outboxIds);
+                // 삭제는 게시판을 모르므로 null (전체 무효화)
+                boards.add(op.isDelete() ? null : op.doc.boardId());
+                if (!op.isDelete() && item.error() == null) reindexed.add(id);
+            } else if (isRetryable(item.status())) {
+                retry(id, op, item.error().reason());
+            } else {
+                // 매핑 오류 등은 재시도해도 같으므로 처리 완료로 넘기고 기록만 남김
+                dropped.increment();
+                done.addAll(op.outboxIds);
+                log.error("search bulk item rejected: postId={}, status={}, reason={}",
+                        id, item.status(), item.error().reason());
+            }
+        }
+        searchResultCache.invalidateBoards(boards);
+        resetSignals(reindexed);
+        markProcessed(done);
+    }
+
+    /** 문서 전체를 덮어써 likeCount/commentCount가 빠졌으므로 PostSignalSync가 다시 보내게 함 */
+    private void resetSignals(List<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        try {
+            postStatsRepository.resetSignals(postIds);
+        } catch (Exception e) {
+            log.warn("failed to reset post signals (posts={}): {}", postIds.size(), e.getMessage());
+        }
+    }
+
+    private void markProcessed(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) return;
+        try {
+            searchOutboxRepository.markProcessed(outboxIds);
+        } catch (Exception e) {
+            // 표시를 못 해도 lease 만료 후 같은 버전으로 다시 보내질 뿐이라 안전
+            log.warn("failed to mark search outbox rows processed (rows={}): {}", outboxIds.size(), e.getMessage());
+        }
+    }
+
+    private void retry(Long postId, PendingOp op, String reason) {
+        int attempt = op.attempt + 1;
+        if (attempt >= maxAttempts) {
+            // 아웃박스 행은 미처리로 남아 lease 만료 후 릴레이가 다시 가져감
+            dropped.increment();
+            log.error("search bulk item given up after {} attempts: postId={}, reason={}", attempt, postId, reason);
+            return;
+        }
+        long backoff = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(attempt - 1, 16));
+        long jitter = ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        PendingOp next = new PendingOp(op.doc, op.bytes, op.enqueuedAt, attempt,
+                System.currentTimeMillis() + backoff / 2 + jitter, op.version, op.outboxIds);
+
+        // 그 사이 더 새 이벤트가 들어왔다면 그것과 합쳐짐 (버전이 높은 쪽 우선)
+        offer(postId, next);
+        retried.increment();
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    /** 대기 중인 항목 중 가장 오래된 이벤트의 경과 시간 */
+    private double lagSeconds() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingOp op : pending.values()) {
+            if (op.enqueuedAt < oldest) oldest = op.enqueuedAt;
+        }
+        return (oldest == Long.MAX_VALUE) ? 0d : (System.currentTimeMillis() - oldest) / 1000d;
+    }
+
+    // content/contentSuggest/contentSuggestExact 세 번 실리므로 본문 바이트 x3 + 메타 필드
+    private static long estimateBytes(PostDocument doc) {
+        if (doc == null || doc.content() == null) return 256L;
+        return doc.content().getBytes(StandardCharsets.UTF_8).length * 3L + 256L;
+    }
+
+    /** doc == null 이면 삭제 */
+    private record PendingOp(PostDocument doc, long bytes, long enqueuedAt, int attempt, long notBefore,
+                             long version, List<Long> outboxIds) {
+        boolean isDelete() {
+            return doc == null;
+        }
+
+        static PendingOp coalesce(PendingOp a, PendingOp b) {
+            PendingOp winner = (b.version >= a.version) ? b : a;
+            List<Long> ids = new ArrayList<>(a.outboxIds.size() + b.outboxIds.size());
+            ids.addAll(a.outboxIds);
+            ids.addAll(b.outboxIds);
+            // 지연 측정은 가장 처음 들어온 이벤트 기준, 재시도 대기는 승자를 따름
+            return new PendingOp(winner.doc, winner.bytes, Math.min(a.enqueuedAt, b.enqueuedAt),
+                    winner.attempt, winner.notBefore, winner.version, ids);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package core.global.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.post.entity.Post;
+import core.domain.post.repository.PostRepository;
+import core.domain.post.repository.PostStatsRepository;
+import core.global.search.SearchConstants;
+import core.global.search.dto.PostDocument;
+import core.global.search.dto.ReindexStatus;
+import core.global.search.repository.SearchOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RestClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * posts-lab-* 새 인덱스로 전체 재색인 후 posts_search/posts_suggest/posts_write 별칭을 한 번에 옮깁니다.
+ * 1) 템플릿 적용 → 새 인덱스 생성 (refresh 끔, replica 0)
+ * 2) 시작 시점 outbox id를 기록하고 post_id 키셋 스캔으로 복사 (문서 변환은 병렬, 버전 = 시작 outbox id)
+ * 3) 설정 복원 후, 복사 중 쌓인 outbox 변경을 새 인덱스에 재반영 → 별칭 교체 → 교체 직전 틈새분을 한 번 더 재반영
+ * 외부 버전(outbox id)을 쓰므로 같은 글이 여러 번 반영돼도 가장 새 변경이 남습니다.
+ */
+@Slf4j
+@Service
+public class PostReindexService {
+
+    private static final String TEMPLATE_NAME = "posts-template-v1";
+    private static final String TEMPLATE_PATH = "elasticsearch/posts-template.json";
+    private static final String INDEX_PREFIX = "posts-lab-";
+    private static final DateTimeFormatter INDEX_SUFFIX =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.of("Asia/Seoul"));
+    private static final int MAX_ITEM_ATTEMPTS = 3;
+
+    private final ElasticsearchClient searchClient;
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final PostRepository postRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final SearchOutboxRepository searchOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "post-reindex");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicReference<ReindexStatus> status = new AtomicReference<>(ReindexStatus.idle());
+    private final AtomicLong copied = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public PostReindexService(
+            ElasticsearchClient searchClient,
+            RestClient restClient,
+            ObjectMapper objectMapper,
+            PostRepository postRepository,
+            PostStatsRepository postStatsRepository,
+            SearchOutboxRepository searchOutboxRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.search.reindex.batch-size:1000}") int batchSize
+    ) {
+        this.searchClient = searchClient;
+        this.restClient = restClient;
+        this.objectMapper = objectMapper;
+        this.postRepository = postRepository;
+        this.postStatsRepository = postStatsRepository;
+        this.searchOutboxRepository = searchOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        meterRegistry.gauge("search.reindex.copied", copied, AtomicLong::get);
+        meterRegistry.gauge("search.reindex.docs_per_second", this, s -> s.status().docsPerSecond());
+    }
+
+    /** 진행 중이면 현재 상태를 그대로 돌려주고 새로 시작하지 않습니다. */
+    public synchronized ReindexStatus start() {
+        if ("RUNNING".equals(status.get().state())) return status();
+
+        String index = INDEX_PREFIX + INDEX_SUFFIX.format(Instant.now());
+        copied.set(0);
+        failed.set(0);
+        status.set(new ReindexStatus("RUNNING", index, postRepository.count(), 0, 0, 0d, Instant.now(), null, "starting"));
+        runner.execute(() -> run(index));
+        return status();
+    }
+
+    public ReindexStatus status() {
+        ReindexStatus s = status.get();
+        if (!"RUNNING".equals(s.state())) return s;
+        return withProgress(s, s.state(), s.finishedAt(), s.message());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private void run(String index) {
+        try {
+            JsonNode template = objectMapper.readTree(readTemplate());
+            applyTemplate(template);
+            createIndex(index);
+
+            long startOutboxId = searchOutboxRepository.findMaxId();
+            progress("copying (outbox checkpoint " + startOutboxId + ")");
+            copyAll(index, startOutboxId);
+
+            restoreSettings(index, template);
+            long caughtUp = catchUp(index, startOutboxId);
+
+            if (failed.get() > 0) {
+                throw new IllegalStateException(failed.get() + " documents failed; aliases left unchanged");
+            }
+            swapAliases(index);
+            // 교체 직전까지 기존 인덱스로 간 변경분
+            catchUp(index, caughtUp);
+            searchClient.indices().refresh(r -> r.index(index));
+            // 새 인덱스에는 좋아요/댓글 수가 없으므로 PostSignalSync가 다시 채우게 함
+            postStatsRepository.resetSignals();
+
+            finish("COMPLETED", "aliases -> " + index);
+            log.info("post reindex completed: index={}, copied={}, {} docs/s",
+                    index, copied.get(), String.format("%.1f", status().docsPerSecond()));
+        } catch (Exception e) {
+            log.error("post reindex failed: index={}", index, e);
+            finish("FAILED", e.getMessage());
+        }
+    }
+
+    private String readTemplate() throws IOException {
+        try (InputStream in = new ClassPathResource(TEMPLATE_PATH).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void applyTemplate(JsonNode template) throws IOException {
+        Request req = new Request("PUT", "/_index_template/" + TEMPLATE_NAME);
+        req.setJsonEntity(objectMapper.writeValueAsString(template));
+        restClient.performRequest(req);
+    }
+
+    // 템플릿(posts-lab-*)이 매핑/분석기를 주고, 적재 동안만 refresh/replica를 끔
+    private void createIndex(String index) throws IOException {
+        searchClient.indices().create(c -> c
+                .index(index)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time("-1"))
+                        .numberOfReplicas("0")));
+    }
+
+    private void restoreSettings(String index, JsonNode template) throws IOException {
+        String replicas = template.path("template").path("settings").path("number_of_replicas").asText("1");
+        searchClient.indices().putSettings(p -> p
+                .index(index)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time("1s"))
+                        .numberOfReplicas(replicas)));
+        searchClient.indices().refresh(r -> r.index(index));
+    }
+
+    /** post_id 키셋 스캔. 복사본 버전은 시작 outbox id라 이후 변경(더 큰 id)이 항상 이깁니다. */
+    private void copyAll(String index, long version) throws IOException {
+        long afterId = 0L;
+        while (true) {
+            if (Thread.currentThread().isInterrupted()) throw new IllegalStateException("interrupted");
+
+            List<Long> ids = postRepository.findIdsAfter(afterId, batchSize);
+            if (ids.isEmpty()) break;
+            afterId = ids.get(ids.size() - 1);
+
+            Map<Long, Long> versions = new HashMap<>();
+            for (Long id : ids) versions.put(id, version);
+            bulk(index, loadDocuments(ids), versions);
+
+            ReindexStatus s = status();
+            log.info("post reindex progress: index={}, copied={}/{}, {} docs/s, lastPostId={}",
+                    index, s.copied(), s.total(), String.format("%.1f", s.docsPerSecond()), afterId);
+        }
+    }
+
+    /** afterId 이후 outbox에 기록된 게시글을 현재 상태로 다시 반영하고, 반영한 가장 큰 outbox id를 돌려줍니다. */
+    private long catchUp(String index, long afterId) throws IOException {
+        List<Object[]> rows = searchOutboxRepository.findLatestPerPostAfter(afterId);
+        if (rows.isEmpty()) return afterId;
+
+        Map<Long, Long> versions = new HashMap<>();
+        long maxId = afterId;
+        for (Object[] r : rows) {
+            long postId = ((Number) r[0]).longValue();
+            long outboxId = ((Number) r[1]).longValue();
+            versions.put(postId, outboxId);
+            maxId = Math.max(maxId, outboxId);
+        }
+        Map<Long, PostDocument> docs = loadDocuments(new ArrayList<>(versions.keySet()));
+        bulk(index, docs, versions);
+        log.info("post reindex catch-up: index={}, posts={}, outbox ({}, {}]", index, versions.size(), afterId, maxId);
+        return maxId;
+    }
+
+    /** DB 읽기는 primary 트랜잭션에서, 문서 변환은 트랜잭션 밖에서 병렬로 */
+    private Map<Long, PostDocument> loadDocuments(List<Long> ids) {
+        List<Post> posts = transactionTemplate.execute(tx -> postRepository.findAllById(ids));
+        Map<Long, PostDocument> docs = new ConcurrentHashMap<>();
+        if (posts != null) {
+            posts.parallelStream().forEach(p -> docs.put(p.getId(), new PostDocument(p)));
+        }
+        return docs;
+    }
+
+    /**
+     * versions의 각 글을 새 인덱스에 반영합니다. docs에 없는 글(삭제됨)은 삭제 요청을 보냅니다.
+     * 429/5xx 항목만 골라 최대 MAX_ITEM_ATTEMPTS번까지 다시 보냅니다.
+     */
+    private void bulk(String index, Map<Long, PostDocument> docs, Map<Long, Long> versions) throws IOException {
+        List<Long> remaining = new ArrayList<>(versions.keySet());
+        for (int attempt = 1; attempt <= MAX_ITEM_ATTEMPTS && !remaining.isEmpty(); attempt++) {
+            if (attempt > 1) sleep(500L << (attempt - 2));
+
+            BulkRequest.Builder br = new BulkRequest.Builder().index(index);
+            for (Long id : remaining) {
+                String docId = String.valueOf(id);
+                long version = SearchConstants.esVersion(versions.get(id));
+                PostDocument doc = docs.get(id);
+                if (doc == null) {
+                    br.operations(o -> o.delete(d -> d.id(docId).version(version).versionType(VersionType.ExternalGte)));
+                } else {
+                    br.operations(o -> o.index(i -> i.id(docId).version(version).versionType(VersionType.ExternalGte).document(doc)));
+                }
+            }
+
+            BulkResponse resp = searchClient.bulk(br.build());
+            List<Long> retry = new ArrayList<>();
+            List<BulkResponseItem> items = resp.items();
+            for (int i = 0; i < remaining.size(); i++) {
+                Long id = remaining.get(i);
+                BulkResponseItem item = items.get(i);
+                int st = item.status();
+                if (item.error() == null || st == 409 || (st == 404 && !docs.containsKey(id))) {
+                    copied.incrementAndGet();
+                } else if (st == 429 || st >= 500) {
+                    retry.add(id);
+                } else {
+                    failed.incrementAndGet();
+                    log.error("post reindex item rejected: postId={}, status={}, reason={}", id, st, item.error().reason());
+                }
+            }
+            remaining = retry;
+        }
+        failed.addAndGet(remaining.size());
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        }
+    }
+
+    /** 세 별칭을 한 번의 _aliases 요청으로 옮깁니다 (infra/elasticsearch/scripts/03-switch_alias.sh 와 동일) */
+    private void swapAliases(String index) throws IOException {
+        searchClient.indices().updateAliases(u -> u
+                .actions(a -> a.remove(r -> r.index("*").alias(SearchConstants.INDEX_POSTS_SEARCH).mustExist(false)))
+                .actions(a -> a.remove(r -> r.index("*").alias(SearchConstants.INDEX_POSTS_SUGGEST).mustExist(false)))
+                .actions(a -> a.remove(r -> r.index("*").alias(SearchConstants.INDEX_POSTS_WRITE).mustExist(false)))
+                .actions(a -> a.add(ad -> ad.index(index).alias(SearchConstants.INDEX_POSTS_SEARCH)))
+                .actions(a -> a.add(ad -> ad.index(index).alias(SearchConstants.INDEX_POSTS_SUGGEST)))
+                .actions(a -> a.add(ad -> ad.index(index).alias(SearchConstants.INDEX_POSTS_WRITE).isWriteIndex(true))));
+    }
+
+    private void progress(String message) {
+        status.updateAndGet(s -> new ReindexStatus(s.state(), s.index(), s.total(), s.copied(), s.failed(),
+                s.docsPerSecond(), s.startedAt(), s.finishedAt(), message));
+    }
+
+    private void finish(String state, String message) {
+        status.updateAndGet(s -> withProgress(s, state, Instant.now(), message));
+    }
+
+    private ReindexStatus withProgress(ReindexStatus s, String state, Instant finishedAt, String message) {
+        Instant end = (finishedAt == null) ? Instant.now() : finishedAt;
+        double seconds = Math.max(0.001, (end.toEpochMilli() - s.startedAt().toEpochMilli()) / 1000d);
+        long done = copied.get();
+        return new ReindexStatus(state, s.index(), s.total(), done, failed.get(), done / seconds,
+                s.startedAt(), finishedAt, message);
+    }
+}
@@ -1,6 +1,6 @@
 package core.global.search.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOrder;
@@ -17,20 +17,25 @@ import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import core.domain.board.dto.BoardItem;
 import core.domain.post.repository.PostRepository;
 import core.domain.user.entity.User;
-import core.domain.user.repository.BlockRepository;
 import core.domain.user.repository.UserRepository;
+import core.domain.user.service.BlockGraph;
 import core.global.enums.ErrorCode;
 import core.global.exception.BusinessException;
+import core.global.pagination.CursorPageResponse;
+import core.global.search.dto.CachedSearch;
+import core.global.search.dto.SearchCursor;
 import core.global.search.dto.SearchHitLite;
 import core.global.search.dto.SearchResultView;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static core.global.search.SearchConstants.*;
@@ -45,14 +50,37 @@ public class PostSearchService {
     private static final double POP_WEIGHT = 0.4;
     private static final double RECENCY_WEIGHT = 0.6;
     private static final int ABSOLUTE_MAX_SIZE = 10;
-
-    private final ElasticsearchClient es;
-    private final BlockRepository blockRepository;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int TRACK_TOTAL_HITS_UP_TO = 1000;
+    private static final String PIT_KEEP_ALIVE = "2m";
+    // 캐시에 담는 뷰어 무관 상위 결과 수 (차단 필터로 걸러질 몫까지 넉넉히)
+    private static final int SHARED_DEPTH = ABSOLUTE_MAX_SIZE * 5;
+
+    private final ElasticsearchAsyncClient es;
+    private final ElasticsearchGuard guard;
+    private final BlockGraph blockGraph;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final RecentSearchRedisService redisService;
+    private final SearchResultCache searchResultCache;
+    private final MeterRegistry meterRegistry;
 
+    /** 상위 ABSOLUTE_MAX_SIZE건만 반환 (뷰어 무관 결과는 캐시에서, 차단 필터는 애플리케이션에서 적용) */
     public List<SearchResultView> search(String query, Long boardId) {
+        return doSearch(query, boardId, null, ABSOLUTE_MAX_SIZE, false).items();
+    }
+
+    /**
+     * 무한스크롤 검색. 첫 페이지에서 PIT를 열고, 응답의 nextCursor(PIT id + search_after)로 다음 페이지를 이어갑니다.
+     * 마지막 페이지에 닿으면 PIT를 닫습니다.
+     */
+    public CursorPageResponse<SearchResultView> searchPage(String query, Long boardId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return doSearch(query, boardId, SearchCursor.decode(cursor), pageSize, true);
+    }
+
+    private CursorPageResponse<SearchResultView> doSearch(String query, Long boardId,
+                                                          SearchCursor cursor, int size, boolean paged) {
         // viewer
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         Long viewerId = userRepository.findByEmail(email)
@@ -61,31 +89,34 @@ public class PostSearchService {
 
         Long effectiveBoardId = (boardId != null && boardId == 1L) ? null : boardId;
 
-        List<Long> blockedIds = blockRepository.getBlockUsersByUserEmail(email)
-                .stream().map(User::getId).toList();
+        List<Long> blockedIds = blockGraph.hiddenIds(viewerId);
 
 
-        if (viewerId != null && query != null && !query.isBlank()) {
+        // 다음 페이지 요청은 같은 검색이므로 최근 검색어는 첫 페이지에서만 기록
+        if (cursor == null && viewerId != null && query != null && !query.isBlank()) {
             redisService.log(viewerId, query);
             log.debug("[SEARCH][RECENT] logged query for user={}, q='{}'", viewerId, query);
         }
 
         try {
-            log.debug("[SEARCH][BEGIN] email={}, viewerId={}, boardId={}, effectiveBoardId={}, blockedCount={}",
-                    email, viewerId, boardId, effectiveBoardId, blockedIds.size());
+            log.debug("[SEARCH][BEGIN] email={}, viewerId={}, boardId={}, effectiveBoardId={}, blockedCount={}, paged={}",
+                    email, viewerId, boardId, effectiveBoardId, blockedIds.size(), paged);
 
 
-            var hits = searchIdsAndHighlights(query, effectiveBoardId, blockedIds, viewerId);
+            var page = paged
+                    ? searchIdsAndHighlights(query, effectiveBoardId, blockedIds, viewerId, cursor, size, true)
+                    : cachedTopHits(query, effectiveBoardId, blockedIds, viewerId, size);
+            var hits = page.hits();
             if (hits.isEmpty()) {
                 log.debug("[SEARCH][END] no hits");
-                return List.of();
+                return new CursorPageResponse<>(List.of(), false, null);
             }
 
             var ids = hits.stream().map(SearchHitLite::id).toList();
             log.debug("[ES→APP] hitIds(from ES)={}", ids);
 
-            // ⬇️ JPA는 차단 미적용 수화 전용
-            var items = postRepository.findPostsByIdsForSearch(viewerId, ids);
+            // ⬇️ JPA는 차단 미적용 수화 전용 (요청한 페이지의 id만)
+            var items = postRepository.findPostsByIdsForSearch(viewerId, ids, blockedIds);
             log.debug("[JPA] fetchedCount={}, fetchedIds={}",
                     items.size(), items.stream().map(BoardItem::postId).toList());
 
@@ -93,8 +124,9 @@ public class PostSearchService {
             Map<Long, Integer> order = new HashMap<>();
             for (int i = 0; i < ids.size(); i++) order.put(ids.get(i), i);
 
-            Map<Long, String> hlMap = hits.stream()
-                    .collect(Collectors.toMap(SearchHitLite::id, SearchHitLite::highlight, (a, b) -> a, LinkedHashMap::new));
+            // 대체 경로 결과는 하이라이트가 없으므로 null 값을 허용하는 맵으로
+            Map<Long, String> hlMap = new HashMap<>();
+            hits.forEach(h -> hlMap.putIfAbsent(h.id(), h.highlight()));
             Map<Long, Double> scMap = hits.stream()
                     .collect(Collectors.toMap(SearchHitLite::id, SearchHitLite::score, (a, b) -> a, LinkedHashMap::new));
 
@@ -114,20 +146,22 @@ public class PostSearchService {
 
 
             if (log.isDebugEnabled()) {
-                log.debug("[SEARCH][END] returnCount={}, orderedIds={}",
-                        result.size(), result.stream().map(r -> r.item().postId()).toList());
+                log.debug("[SEARCH][END] returnCount={}, hasNext={}, orderedIds={}",
+                        result.size(), page.nextCursor() != null, result.stream().map(r -> r.item().postId()).toList());
             }
 
-            return result;
+            return new CursorPageResponse<>(result, page.nextCursor() != null, page.nextCursor());
 
         } catch (ElasticsearchException e) {
+            // PIT keep_alive가 지난 커서
+            if (cursor != null && e.status() == 404) {
+                log.debug("[ES] point-in-time expired: {}", e.getMessage());
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
             log.error("[ES] search failed (status={}, reason={})",
                     e.response() != null ? e.response().status() : "n/a",
                     e.error() != null ? e.error().reason() : e.getMessage(), e);
             throw new BusinessException(ErrorCode.ELASTICSEARCH_SEARCH_FAILED);
-        } catch (IOException e) {
-            log.error("[ES] IO failed: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.ELASTICSEARCH_SEARCH_FAILED);
         } catch (Exception e) {
             log.error("[ES] unexpected: {}", e.getMessage(), e);
             throw new BusinessException(ErrorCode.ELASTICSEARCH_SEARCH_FAILED);
@@ -135,73 +169,137 @@ public class PostSearchService {
     }
 
     /**
-     * ES에서 문서 id(=postId), score, highlight만 가져오는 부분
+     * 1단계(뷰어 무관): (게시판, 정규화된 검색어)의 상위 SHARED_DEPTH건을 차단 필터 없이 조회해 캐싱.
+     * 2단계(뷰어): 캐시된 목록에서 차단 관계인 작성자를 빼고 size건을 자름.
+     * 차단 필터로 페이지가 모자라고 뒤에 결과가 더 있으면 뷰어 필터를 건 쿼리로 직접 조회합니다.
      */
-    private List<SearchHitLite> searchIdsAndHighlights(String query,
-                                                       Long boardId,
-                                                       List<Long> blockedIds,
-                                                       Long viewerId) throws IOException {
+    private HitsPage cachedTopHits(String query, Long boardId, List<Long> blockedIds, Long viewerId, int size) {
+        String normalized = PostSearchSuggestService.normalize(query);
+        CachedSearch shared = searchResultCache.get(boardId, normalized, () -> {
+            var top = searchIdsAndHighlights(normalized, boardId, List.of(), null, null, SHARED_DEPTH, false);
+            return new CachedSearch(top.hits(), top.hits().size() < SHARED_DEPTH, top.degraded());
+        });
+
+        List<SearchHitLite> visible = shared.hits().stream()
+                .filter(h -> !blockGraph.isHidden(viewerId, h.userId()))
+                .limit(size)
+                .toList();
+        if (visible.size() < size && !shared.exhausted()) {
+            meterRegistry.counter("search.result.overfetch").increment();
+            log.debug("[SEARCH][CACHE] drained by block filter (visible={}/{}), querying with viewer filter",
+                    visible.size(), size);
+            return searchIdsAndHighlights(normalized, boardId, blockedIds, viewerId, null, size, false);
+        }
+        return new HitsPage(visible, null, shared.degraded());
+    }
 
-        log.debug("[ES][SEARCH][REQ] viewerId={}, boardId={}, blockedCount={}, query='{}'",
-                viewerId, boardId, blockedIds == null ? 0 : blockedIds.size(), query);
+    /**
+     * ElasticsearchGuard를 거쳐 ES를 조회하고, ES를 쓸 수 없으면 Postgres 전문 검색으로 대신합니다.
+     */
+    private HitsPage searchIdsAndHighlights(String query,
+                                            Long boardId,
+                                            List<Long> blockedIds,
+                                            Long viewerId,
+                                            SearchCursor cursor,
+                                            int size,
+                                            boolean paged) {
+        return guard.call(ElasticsearchGuard.Op.SEARCH,
+                requests -> searchEs(requests, query, boardId, blockedIds, viewerId, cursor, size, paged),
+                () -> searchPostgres(query, boardId, cursor, size));
+    }
 
-        long t0 = System.currentTimeMillis();
+    /**
+     * ES에서 문서 id(=postId), 작성자 id, score, highlight만 가져오는 부분.
+     * paged면 PIT 위에서 size+1건을 읽어 다음 페이지 여부를 판단하고 nextCursor를 만듭니다.
+     */
+    private CompletableFuture<HitsPage> searchEs(ElasticsearchGuard.InFlight requests,
+                                                 String query,
+                                                 Long boardId,
+                                                 List<Long> blockedIds,
+                                                 Long viewerId,
+                                                 SearchCursor cursor,
+                                                 int size,
+                                                 boolean paged) {
+
+        log.debug("[ES][SEARCH][REQ] viewerId={}, boardId={}, blockedCount={}, query='{}', cursor={}",
+                viewerId, boardId, blockedIds == null ? 0 : blockedIds.size(), query, cursor != null);
 
-        SearchResponse<Void> resp = es.search(s -> s
-                        .index(INDEX_POSTS_SEARCH)
-                        .from(0).size(ABSOLUTE_MAX_SIZE)
-                        .source(src -> src.filter(f -> f.excludes("*")))
-                        .query(q -> q.functionScore(fs -> fs
-                                .query(base -> base.bool(b -> {
-                                    if (boardId != null) {
-                                        b = b.filter(f -> f.term(t -> t.field("boardId").value(boardId)));
-                                    }
-                                    // 차단 유저 must_not
-                                    b = applyBlockFilter(b, blockedIds, viewerId);
-
-                                    // 본문 매칭(phrase → AND → fuzzy)
-                                    b = b.should(sh -> sh.matchPhrase(mp -> mp
-                                            .field("content").query(query).slop(1).boost(PHRASE_BOOST)));
-                                    b = b.should(sh -> sh.match(m -> m
-                                            .field("content").query(query).operator(Operator.And)));
-                                    b = b.should(sh -> sh.match(m -> m
-                                            .field("content").query(query).fuzziness("AUTO")));
-                                    b = b.minimumShouldMatch("1");
-                                    return b;
-                                }))
-                                // 인기도(로그 완화)
-                                .functions(fn -> fn.fieldValueFactor(f -> f
-                                                .field("checkCount").factor(1.0)
-                                                .modifier(FieldValueFactorModifier.Log1p).missing(0.0))
-                                        .weight(POP_WEIGHT))
-                                // 최신성(가우시안)
-                                .functions(fn -> fn.gauss(g -> g
-                                        .date(d -> d
-                                                .field("createdAt")
-                                                .placement(p -> p
-                                                        .origin("now")                       // 날짜 원점
-                                                        .scale(Time.of(t -> t.time(RECENCY_SCALE))) // "14d" 같은 문자열
-                                                        .decay(0.5)
-                                                )
-                                        )
-                                ).weight(RECENCY_WEIGHT))
-                                .scoreMode(FunctionScoreMode.Multiply)
-                                .boostMode(FunctionBoostMode.Multiply)))
-                        .sort(ss -> ss.score(o -> o.order(SortOrder.Desc)))
-                        .sort(ss -> ss.field(f -> f.field("createdAt").order(SortOrder.Desc)))
-                        .highlight(h -> h.preTags("<em>").postTags("</em>")
-                                .fields("content", hf -> hf.numberOfFragments(1).fragmentSize(140)))
-                        // .explain(true) // (옵션) 잠깐만 켜서 확인
-                        .trackTotalHits(t -> t.enabled(true))
-                , Void.class);
+        long t0 = System.currentTimeMillis();
+        final long now = (cursor != null) ? cursor.now() : t0;
+        CompletableFuture<String> pit = !paged ? CompletableFuture.completedFuture(null)
+                : (cursor != null) ? CompletableFuture.completedFuture(cursor.pitId()) : openPointInTime(requests);
+
+        return pit.thenCompose(pitId -> requests.track(es.search(s -> {
+                    if (pitId != null) {
+                        // PIT 검색은 index를 지정하지 않음. 정렬 끝에 _shard_doc tiebreaker가 자동으로 붙음
+                        s.pit(p -> p.id(pitId).keepAlive(Time.of(t -> t.time(PIT_KEEP_ALIVE))));
+                    } else {
+                        s.index(INDEX_POSTS_SEARCH);
+                    }
+                    if (cursor != null) {
+                        s.searchAfter(cursor.searchAfter());
+                    }
+                    return s
+                            .size(paged ? size + 1 : size)
+                            // 뷰어 필터를 애플리케이션에서 적용할 수 있도록 작성자 id만 가져옴
+                            .source(src -> src.filter(f -> f.includes("userId")))
+                            .query(q -> q.functionScore(fs -> fs
+                                    .query(base -> base.bool(b -> {
+                                        if (boardId != null) {
+                                            b = b.filter(f -> f.term(t -> t.field("boardId").value(boardId)));
+                                        }
+                                        // 차단 유저 must_not
+                                        b = applyBlockFilter(b, blockedIds, viewerId);
+
+                                        // 본문 매칭(phrase → AND → fuzzy)
+                                        b = b.should(sh -> sh.matchPhrase(mp -> mp
+                                                .field("content").query(query).slop(1).boost(PHRASE_BOOST)));
+                                        b = b.should(sh -> sh.match(m -> m
+                                                .field("content").query(query).operator(Operator.And)));
+                                        b = b.should(sh -> sh.match(m -> m
+                                                .field("content").query(query).fuzziness("AUTO")));
+                                        b = b.minimumShouldMatch("1");
+                                        return b;
+                                    }))
+                                    // 인기도(로그 완화)
+                                    .functions(fn -> fn.fieldValueFactor(f -> f
+                                                    .field("checkCount").factor(1.0)
+                                                    .modifier(FieldValueFactorModifier.Log1p).missing(0.0))
+                                            .weight(POP_WEIGHT))
+                                    // 최신성(가우시안) — 페이지 사이 점수가 바뀌지 않도록 원점을 첫 페이지 시각으로 고정
+                                    .functions(fn -> fn.gauss(g -> g
+                                            .date(d -> d
+                                                    .field("createdAt")
+                                                    .placement(p -> p
+                                                            .origin(String.valueOf(now))        // epoch_millis
+                                                            .scale(Time.of(t -> t.time(RECENCY_SCALE))) // "14d" 같은 문자열
+                                                            .decay(0.5)
+                                                    )
+                                            )
+                                    ).weight(RECENCY_WEIGHT))
+                                    .scoreMode(FunctionScoreMode.Multiply)
+                                    .boostMode(FunctionBoostMode.Multiply)))
+                            .sort(ss -> ss.score(o -> o.order(SortOrder.Desc)))
+                            .sort(ss -> ss.field(f -> f.field("createdAt").order(SortOrder.Desc)))
+                            .highlight(h -> h.preTags("<em>").postTags("</em>")
+                                    .fields("content", hf -> hf.numberOfFragments(1).fragmentSize(140)))
+                            // .explain(true) // (옵션) 잠깐만 켜서 확인
+                            // 총 건수는 화면에 쓰지 않으므로 임계치까지만 셈
+                            .trackTotalHits(t -> t.count(TRACK_TOTAL_HITS_UP_TO));
+                }
+                , Map.class)).thenApply(resp -> toHitsPage(resp, pitId, t0, now, size, paged)));
+    }
 
+    private HitsPage toHitsPage(SearchResponse<Map> resp, String pitId, long t0, long now, int size, boolean paged) {
         long wallMs = System.currentTimeMillis() - t0;
+        meterRegistry.timer("search.es.latency", "kind", "took").record(resp.took(), TimeUnit.MILLISECONDS);
+        meterRegistry.timer("search.es.latency", "kind", "wall").record(wallMs, TimeUnit.MILLISECONDS);
 
         // === 추가: 응답 요약 ===
         int hitCount = resp.hits().hits().size();
         Long total = resp.hits().total() == null ? null : resp.hits().total().value();
-        log.debug("[ES][SEARCH][RESP] took={}ms(es), wall={}ms, hits={}, total={}",
-                resp.took(), wallMs, hitCount, total);
+        log.debug("[ES][SEARCH][RESP] took={}ms(es), wall={}ms, hits={}, total={}{}",
+                resp.took(), wallMs, hitCount, total, (total != null && total >= TRACK_TOTAL_HITS_UP_TO) ? "+" : "");
 
         // === 추가: 상위 히트 요약 ===
         for (int i = 0; i < hitCount; i++) {
@@ -212,20 +310,63 @@ public class PostSearchService {
             log.debug("[ES][HIT][{}] id={}, score={}, hl={}", i, h.id(), h.score(), hl);
         }
 
-        var esIds = resp.hits().hits().stream().map(h -> h.id()).toList();
+        var pageHits = resp.hits().hits();
+        boolean hasNext = paged && pageHits.size() > size;
+        if (hasNext) pageHits = pageHits.subList(0, size);
+
+        var esIds = pageHits.stream().map(h -> h.id()).toList();
         log.debug("[ES] ids={}", esIds);
 
-        return resp.hits().hits().stream().map(h -> {
+        var hits = pageHits.stream().map(h -> {
             String hl = null;
             var hs = h.highlight() == null ? null : h.highlight().get("content");
             if (hs != null && !hs.isEmpty()) hl = hs.get(0);
+            Object uid = h.source() == null ? null : h.source().get("userId");
             return new SearchHitLite(Long.parseLong(h.id()),
+                    uid instanceof Number n ? n.longValue() : null,
                     h.score() == null ? 0.0 : h.score(), hl);
         }).toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            // PIT id는 응답마다 바뀔 수 있으므로 최신 값을 실어 보냄
+            String nextPit = resp.pitId() != null ? resp.pitId() : pitId;
+            nextCursor = new SearchCursor(nextPit, pageHits.get(pageHits.size() - 1).sort(), now).encode();
+        } else if (pitId != null) {
+            closePointInTime(resp.pitId() != null ? resp.pitId() : pitId);
+        }
+        return new HitsPage(hits, nextCursor, false);
+    }
+
+    /**
+     * ES 장애 시 대체: Postgres 전문 검색(tsvector). 하이라이트/점수 없이 같은 모양으로 돌려주며,
+     * PIT 커서는 ES에서만 이어갈 수 있으므로 다음 페이지는 없습니다.
+     */
+    private HitsPage searchPostgres(String query, Long boardId, SearchCursor cursor, int size) {
+        if (cursor != null || query == null || query.isBlank()) return new HitsPage(List.of(), null, true);
+        List<SearchHitLite> hits = postRepository.searchFullText(query.trim(), boardId, size).stream()
+                .map(h -> new SearchHitLite(h.postId(), h.authorId(), 0.0, null))
+                .toList();
+        return new HitsPage(hits, null, true);
+    }
+
+    private CompletableFuture<String> openPointInTime(ElasticsearchGuard.InFlight requests) {
+        return requests.track(es.openPointInTime(o -> o
+                .index(INDEX_POSTS_SEARCH)
+                .keepAlive(Time.of(t -> t.time(PIT_KEEP_ALIVE)))
+        )).thenApply(r -> r.id());
+    }
+
+    private void closePointInTime(String pitId) {
+        es.closePointInTime(c -> c.id(pitId)).exceptionally(e -> {
+            // keep_alive가 지나면 ES가 정리
+            log.debug("[ES] close point-in-time failed: {}", e.getMessage());
+            return null;
+        });
     }
 
     /**
-     * 차단 필터 적용: 소수면 직접 terms, 많으면 terms lookup
+     * 차단 필터 적용: 소수면 직접 terms, 많으면 terms lookup (user_filters는 UserFilterIndexer가 유지)
      */
     private Builder applyBlockFilter(Builder b,
                                      List<Long> blockedIds, Long viewerId) {
@@ -248,6 +389,10 @@ public class PostSearchService {
         }
     }
 
+    /** degraded: ES 대신 Postgres 대체 경로로 만든 결과 (캐싱하지 않음) */
+    private record HitsPage(List<SearchHitLite> hits, String nextCursor, boolean degraded) {
+    }
+
     private static final JsonpMapper __ES_JSON_MAPPER = new JacksonJsonpMapper();
 
     private static String __toJson(Object obj) {
@@ -1,133 +1,200 @@
 package core.global.search.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.CompletionContext;
 import co.elastic.clients.elasticsearch.core.search.Context;
-import core.domain.user.entity.User;
-import core.domain.user.repository.BlockRepository;
-import core.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.domain.post.repository.PostRepository;
 import core.global.enums.ErrorCode;
 import core.global.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static core.global.search.SearchConstants.INDEX_POSTS_SUGGEST;
 
+/**
+ * 하이브리드 서제스트: completion(정확/오타) + ASYT(fallback with filters)
+ * 두 요청을 비동기 클라이언트로 동시에 보내고, completion만으로 LIMIT개가 차면 fallback은 취소합니다.
+ * 결과는 (게시판, 정규화된 접두어) 단위로 짧게 캐싱하며, 같은 키의 동시 요청은 하나의 ES 호출을 공유합니다.
+ * 캐시 적중은 {@link ElasticsearchGuard}를 거치지 않아 서킷/bulkhead에는 실제 ES 호출만 기록되고,
+ * 서킷이 열려 있어도 캐시에 있는 접두어는 캐시에서 답합니다.
+ * 캐시에 없을 때만 가드를 거쳐 ES를 부르며, ES를 쓸 수 없으면 Postgres 접두 매칭으로 대신합니다(캐싱하지 않음).
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PostSearchSuggestService {
     private static final int LIMIT = 5;
     private static final int PER_PIPE = 10;
-    private final ElasticsearchClient es;
-    private final BlockRepository blockRepository;
-    private final UserRepository userRepository;
+    private static final int FALLBACK_MIN_PREFIX = 2;
+
+    private final ElasticsearchAsyncClient es;
+    private final ElasticsearchGuard guard;
+    private final PostRepository postRepository;
+    private final AsyncCache<Key, List<String>> cache;
+
+    public PostSearchSuggestService(
+            ElasticsearchAsyncClient es,
+            ElasticsearchGuard guard,
+            PostRepository postRepository,
+            @Value("${app.search.suggest.cache-ttl-seconds:30}") long cacheTtlSeconds,
+            @Value("${app.search.suggest.cache-size:10000}") long cacheSize
+    ) {
+        this.es = es;
+        this.guard = guard;
+        this.postRepository = postRepository;
+        // 실패한 future는 Caffeine이 자동으로 제거하므로 오류는 캐싱되지 않음
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .buildAsync();
+    }
 
-    /**
-     * 하이브리드 서제스트: completion(정확/오타) + ASYT(fallback with filters)
-     */
-    public List<String> suggest(String prefix, Long boardId) {
-        final String pfx = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT).trim();
-        if (pfx.isEmpty()) return List.of();
+    public CompletableFuture<List<String>> suggest(String prefix, Long boardId) {
+        final String pfx = normalize(prefix);
+        if (pfx.isEmpty()) return CompletableFuture.completedFuture(List.of());
 
         final Long effectiveBoardId = (boardId != null && boardId == 1L) ? null : boardId;
-        final String ctxVal = (boardId == null || boardId == 1L)
-                ? "1" : String.valueOf(boardId);
+        final Key key = new Key(effectiveBoardId, pfx);
+
+        // 적중(또는 다른 요청이 채우는 중): 가드를 거치지 않음. 그 로드가 실패했으면 가드를 거쳐 다시 시도/대체
+        CompletableFuture<List<String>> present = cache.getIfPresent(key);
+        CompletableFuture<List<String>> result = (present != null)
+                ? present.exceptionallyCompose(e -> load(key))
+                : load(key);
+        return result.exceptionally(e -> {
+            log.error("[SUG] failed: {}", e.getMessage(), e);
+            throw new BusinessException(ErrorCode.ELASTICSEARCH_SEARCH_SUGGEST_FAILED);
+        });
+    }
+
+    /** 캐시를 채우는 ES 호출만 가드를 거침. 대체 경로 결과는 캐시 바깥에서 만들어지므로 캐시에 남지 않음 */
+    private CompletableFuture<List<String>> load(Key key) {
+        return guard.callAsync(ElasticsearchGuard.Op.SUGGEST,
+                requests -> cache.get(key, (k, executor) -> fetch(k, requests)),
+                () -> fallback(key));
+    }
+
+    /** 캐시를 채우는 호출자의 요청으로 등록되므로, 그 호출자가 타임아웃되면 ES 요청도 취소되고 기다리던 호출은 다시 load로 감 */
+    private CompletableFuture<List<String>> fetch(Key key, ElasticsearchGuard.InFlight requests) {
+        final String pfx = key.prefix();
+        final Long boardId = key.boardId();
+        final String ctxVal = (boardId == null) ? "1" : String.valueOf(boardId);
         final boolean useFuzzy = pfx.length() >= 3;
 
+        // === 1) completion: exact + fuzzy (contexts 전달) ===
+        // Java ES Client에서 contexts는 SuggestContextQuery 맵으로 전달됩니다.
+        final Map<String, List<CompletionContext>> ctx = Map.of(
+                "boardId", List.of(CompletionContext.of(b ->
+                        b.context(Context.of(c -> c.category(ctxVal)))))
+        );
 
-        try {
-            String email = SecurityContextHolder.getContext().getAuthentication().getName();
-            Long viewerId = userRepository.findByEmail(email).map(User::getId).orElse(null);
-            List<Long> blockedIds = blockRepository.getBlockUsersByUserEmail(email)
-                    .stream().map(User::getId).toList();
-
-            // === 1) completion: exact + fuzzy (contexts 전달) ===
-            // Java ES Client에서 contexts는 SuggestContextQuery 맵으로 전달됩니다.
-            final Map<String, List<CompletionContext>> ctx = Map.of(
-                    "boardId", List.of(CompletionContext.of(b ->
-                            b.context(Context.of(c -> c.category(ctxVal)))))
-            );
-
-            // 1) completion exact/fuzzy
-            var comp = es.search(s -> s
-                            .index(INDEX_POSTS_SUGGEST)
-                            .size(0)
-                            .trackTotalHits(t -> t.enabled(false))
-                            .suggest(sug -> sug
-                                    .suggesters("exact", s1 -> s1
-                                            .prefix(pfx)
-                                            .completion(c -> c.field("contentSuggestExact")
-                                                    .skipDuplicates(true).size(PER_PIPE)
-                                                    .contexts(ctx) // ← 항상 숫자 컨텍스트
-                                            )
-                                    )
-                                    .suggesters("fuzzy", s2 -> s2
-                                            .prefix(pfx)
-                                            .completion(c -> {
-                                                var b = c.field("contentSuggest").skipDuplicates(true).size(PER_PIPE);
-                                                if (useFuzzy) b = b.fuzzy(f -> f.fuzziness("AUTO"));
-                                                return b.contexts(ctx); // ← 항상 숫자 컨텍스트
-                                            })
-                                    )
-                            ),
-                    Map.class
-            );
-
-            var out = new LinkedHashSet<String>();
-
-            var exact = comp.suggest() != null ? comp.suggest().get("exact") : null;
-            if (exact != null) {
-                exact.forEach(e -> {
-                    if (e.completion() != null && e.completion().options() != null) {
-                        e.completion().options().forEach(o -> out.add(o.text()));
-                    }
-                });
-            }
-            var fuzzy = comp.suggest() != null ? comp.suggest().get("fuzzy") : null;
-            if (fuzzy != null) {
-                fuzzy.forEach(f -> {
-                    if (f.completion() != null && f.completion().options() != null) {
-                        f.completion().options().forEach(o -> out.add(o.text()));
+        CompletableFuture<SearchResponse<Map>> comp = requests.track(es.search(s -> s
+                        .index(INDEX_POSTS_SUGGEST)
+                        .size(0)
+                        .trackTotalHits(t -> t.enabled(false))
+                        .suggest(sug -> sug
+                                .suggesters("exact", s1 -> s1
+                                        .prefix(pfx)
+                                        .completion(c -> c.field("contentSuggestExact")
+                                                .skipDuplicates(true).size(PER_PIPE)
+                                                .contexts(ctx) // ← 항상 숫자 컨텍스트
+                                        )
+                                )
+                                .suggesters("fuzzy", s2 -> s2
+                                        .prefix(pfx)
+                                        .completion(c -> {
+                                            var b = c.field("contentSuggest").skipDuplicates(true).size(PER_PIPE);
+                                            if (useFuzzy) b = b.fuzzy(f -> f.fuzziness("AUTO"));
+                                            return b.contexts(ctx); // ← 항상 숫자 컨텍스트
+                                        })
+                                )
+                        ),
+                Map.class
+        ));
+
+        // === 2) ASyT fallback (boardId 있으면 term 필터 추가) — completion 결과를 기다리지 않고 동시에 보냄 ===
+        CompletableFuture<SearchResponse<Map>> asyt = requests.track(es.search(s -> s
+                .index(INDEX_POSTS_SUGGEST)
+                .size(PER_PIPE)
+                .source(src -> src.filter(f -> f.includes("content")))
+                .query(q -> q.bool(b -> {
+                    if (boardId != null) {
+                        b.filter(f -> f.term(t -> t.field("boardId").value(boardId)));
                     }
-                });
+                    b.must(m -> m.multiMatch(mm -> mm
+                            .query(pfx).type(TextQueryType.BoolPrefix)
+                            .fields("content.asyt", "content.asyt._2gram", "content.asyt._3gram")));
+                    return b;
+                })), Map.class));
+
+        return comp.thenCompose(resp -> {
+            var out = completionTexts(resp);
+            if (out.size() >= LIMIT) {
+                asyt.cancel(true);
+                return CompletableFuture.completedFuture(out.stream().limit(LIMIT).toList());
             }
-
-            // === 2) ASyT fallback (boardId 있으면 term 필터 추가) ===
-            if (out.size() < LIMIT) {
-                var asyt = es.search(s -> s
-                        .index(INDEX_POSTS_SUGGEST)
-                        .size(PER_PIPE)
-                        .source(src -> src.filter(f -> f.includes("content")))
-                        .query(q -> q.bool(b -> {
-                            if (boardId != null && boardId != 1L) {
-                                b.filter(f -> f.term(t -> t.field("boardId").value(boardId)));
-                            }
-                            b.must(m -> m.multiMatch(mm -> mm
-                                    .query(pfx).type(TextQueryType.BoolPrefix)
-                                    .fields("content.asyt","content.asyt._2gram","content.asyt._3gram")));
-                            return b;
-                        })), Map.class);
-
-                asyt.hits().hits().forEach(h -> {
+            return asyt.thenApply(fallback -> {
+                fallback.hits().hits().forEach(h -> {
                     Object c = h.source() == null ? null : h.source().get("content");
                     if (c instanceof String s && !s.isBlank()) out.add(s);
                 });
-            }
+                return out.stream().limit(LIMIT).toList();
+            });
+        }).whenComplete((r, e) -> {
+            if (e != null) asyt.cancel(true);
+        });
+    }
 
-            return out.stream().limit(LIMIT).toList();
+    /** ES 장애 시: 게시글 본문 접두 매칭 (짧은 접두어는 후보가 너무 많아 생략) */
+    private List<String> fallback(Key key) {
+        if (key.prefix().length() < FALLBACK_MIN_PREFIX) return List.of();
+        String pattern = key.prefix()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return postRepository.suggestByPrefix(pattern, key.boardId(), LIMIT).stream().distinct().toList();
+    }
 
-        } catch (Exception e) {
-            log.error("[SUG] failed: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.ELASTICSEARCH_SEARCH_SUGGEST_FAILED);
+    private static LinkedHashSet<String> completionTexts(SearchResponse<Map> comp) {
+        var out = new LinkedHashSet<String>();
+
+        var exact = comp.suggest() != null ? comp.suggest().get("exact") : null;
+        if (exact != null) {
+            exact.forEach(e -> {
+                if (e.completion() != null && e.completion().options() != null) {
+                    e.completion().options().forEach(o -> out.add(o.text()));
+                }
+            });
+        }
+        var fuzzy = comp.suggest() != null ? comp.suggest().get("fuzzy") : null;
+        if (fuzzy != null) {
+            fuzzy.forEach(f -> {
+                if (f.completion() != null && f.completion().options() != null) {
+                    f.completion().options().forEach(o -> out.add(o.text()));
+                }
+            });
         }
+        return out;
+    }
+
+    /** 소문자 + 앞뒤 공백 제거 + 연속 공백 하나로 (캐시 키가 입력 습관에 따라 갈라지지 않도록) */
+    static String normalize(String prefix) {
+        if (prefix == null) return "";
+        return prefix.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    /** boardId == null 이면 전체 게시판 */
+    private record Key(Long boardId, String prefix) {
     }
 }
@@ -0,0 +1,147 @@
+package core.global.search.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.global.search.dto.CachedSearch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 캐시 (Caffeine L1 + Redis L2).
+ * 키는 (boardId, 정규화된 검색어)이고, 값은 차단 필터를 적용하기 전의 {@link CachedSearch}입니다.
+ * 무효화는 커밋 시점이 아니라 PostBulkIndexer의 _bulk가 ES에 반영(refresh)된 뒤에 합니다.
+ * 커밋 직후에 올리면 ES가 아직 옛 문서를 돌려주는 사이의 결과가 새 버전으로 다시 캐시되기 때문입니다.
+ * 해당 게시판과 전체 검색의 Redis 버전을 올려 L2를 무효화하고 로컬 L1은 즉시 비웁니다.
+ * 게시판을 알 수 없는 삭제는 모든 게시판 키에 붙는 global 버전을 올립니다. 다른 노드의 L1은 짧은 TTL 안에 만료됩니다.
+ */
+@Slf4j
+@Service
+public class SearchResultCache {
+
+    private static final Duration L1_TTL = Duration.ofSeconds(5);
+    private static final Duration L2_TTL = Duration.ofSeconds(30);
+    private static final String ALL_BOARDS = "all";
+    private static final String GLOBAL = "global";
+    private static final String VERSION_KEY_PREFIX = "search:result:ver:";
+    private static final String RESULT_KEY_PREFIX = "search:result:";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedSearch> local = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    private final Counter l1Hit;
+    private final Counter l2Hit;
+    private final Counter miss;
+
+    public SearchResultCache(StringRedisTemplate redis, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.l1Hit = meterRegistry.counter("search.result.cache", "result", "l1_hit");
+        this.l2Hit = meterRegistry.counter("search.result.cache", "result", "l2_hit");
+        this.miss = meterRegistry.counter("search.result.cache", "result", "miss");
+    }
+
+    public CachedSearch get(Long boardId, String normalizedQuery, Supplier<CachedSearch> loader) {
+        String board = boardKey(boardId);
+        String localKey = board + ":" + normalizedQuery;
+
+        CachedSearch cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hit.increment();
+            return cached;
+        }
+
+        String remoteKey = remoteKey(board, localKey);
+        CachedSearch remote = readRemote(remoteKey);
+        if (remote != null) {
+            l2Hit.increment();
+            local.put(localKey, remote);
+            return remote;
+        }
+
+        miss.increment();
+        CachedSearch loaded = loader.get();
+        // ES가 회복되면 바로 원래 결과로 돌아가도록 대체 경로 결과는 담지 않음
+        if (loaded.degraded()) return loaded;
+        local.put(localKey, loaded);
+        writeRemote(remoteKey, loaded);
+        return loaded;
+    }
+
+    /**
+     * ES에 반영된 게시판들의 캐시를 무효화합니다.
+     * @param boardIds 반영된 문서의 게시판. null 원소(게시판을 모르는 삭제)가 있으면 모든 게시판을 무효화
+     */
+    public void invalidateBoards(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) return;
+        boolean everything = boardIds.contains(null);
+        if (everything) {
+            local.invalidateAll();
+        } else {
+            local.asMap().keySet().removeIf(k -> k.startsWith(ALL_BOARDS + ":")
+                    || boardIds.stream().anyMatch(id -> k.startsWith(id + ":")));
+        }
+        try {
+            if (everything) {
+                redis.opsForValue().increment(VERSION_KEY_PREFIX + GLOBAL);
+                return;
+            }
+            for (Long boardId : boardIds) redis.opsForValue().increment(VERSION_KEY_PREFIX + boardId);
+            redis.opsForValue().increment(VERSION_KEY_PREFIX + ALL_BOARDS);
+        } catch (Exception e) {
+            log.warn("search cache invalidation failed (boards={}): {}", boardIds, e.getMessage());
+        }
+    }
+
+    private String remoteKey(String board, String localKey) {
+        try {
+            List<String> versions = redis.opsForValue().multiGet(
+                    List.of(VERSION_KEY_PREFIX + GLOBAL, VERSION_KEY_PREFIX + board));
+            if (versions == null) return null;
+            return RESULT_KEY_PREFIX + versionOf(versions.get(0)) + "." + versionOf(versions.get(1)) + ":" + localKey;
+        } catch (Exception e) {
+            log.debug("search cache version read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private CachedSearch readRemote(String key) {
+        if (key == null) return null;
+        try {
+            String json = redis.opsForValue().get(key);
+            return (json == null) ? null : objectMapper.readValue(json, CachedSearch.class);
+        } catch (Exception e) {
+            log.debug("search cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, CachedSearch result) {
+        if (key == null) return;
+        try {
+            redis.opsForValue().set(key, objectMapper.writeValueAsString(result), L2_TTL);
+        } catch (Exception e) {
+            log.debug("search cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private static String versionOf(String v) {
+        return (v == null) ? "0" : v;
+    }
+
+    private String boardKey(Long boardId) {
+        return (boardId == null) ? ALL_BOARDS : String.valueOf(boardId);
+    }
+}
@@ -0,0 +1,125 @@
+package core.global.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.mapping.DynamicMapping;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import core.domain.user.dto.UserBlockedEvent;
+import core.domain.user.repository.BlockRepository;
+import core.domain.user.service.BlockGraph;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static core.global.search.SearchConstants.*;
+
+/**
+ * 검색 차단 필터의 terms lookup 대상인 user_filters 인덱스를 채웁니다.
+ * 문서 id = 사용자 id, blockedUserIds = BlockGraph.hiddenIds (양방향).
+ * 차단 이벤트가 커밋되면 양쪽 사용자를 dirty로 표시했다가 주기적으로 _bulk 부분 update 한 번에 반영합니다.
+ * lookup은 숨김 대상이 BLOCK_TERMS_LOOKUP_THRESHOLD 이상일 때만 쓰이므로 그 미만이면 문서를 지웁니다.
+ */
+@Slf4j
+@Service
+public class UserFilterIndexer {
+
+    private final ElasticsearchClient es;
+    private final BlockGraph blockGraph;
+    private final BlockRepository blockRepository;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public UserFilterIndexer(ElasticsearchClient es, BlockGraph blockGraph, BlockRepository blockRepository) {
+        this.es = es;
+        this.blockGraph = blockGraph;
+        this.blockRepository = blockRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(UserBlockedEvent e) {
+        if (e.userId() != null) dirty.add(e.userId());
+        if (e.blockedId() != null) dirty.add(e.blockedId());
+    }
+
+    /** 인덱스가 없으면 만들고, 임계치 이상인 사용자를 모두 다시 씁니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            ensureIndex();
+            List<Long> heavy = blockRepository.findUserIdsWithHiddenAtLeast(BLOCK_TERMS_LOOKUP_THRESHOLD);
+            dirty.addAll(heavy);
+            log.info("user_filters backfill queued: users={}", heavy.size());
+        } catch (Exception e) {
+            log.warn("user_filters backfill skipped: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.user-filters.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirty.isEmpty()) return;
+        List<Long> userIds = new ArrayList<>(dirty);
+        dirty.removeAll(userIds);
+
+        // 커밋 후 BlockGraph가 이미 무효화했으므로 여기서 다시 적재된 목록이 최신
+        BulkRequest.Builder br = new BulkRequest.Builder().index(USER_FILTER_INDEX);
+        for (Long userId : userIds) {
+            String docId = String.valueOf(userId);
+            List<Long> hidden = blockGraph.hiddenIds(userId);
+            if (hidden.size() >= BLOCK_TERMS_LOOKUP_THRESHOLD) {
+                Map<String, Object> partial = Map.of(USER_FILTER_BLOCKED_PATH, hidden);
+                br.operations(o -> o.update(u -> u
+                        .id(docId)
+                        .retryOnConflict(3)
+                        .action(a -> a.doc(partial).docAsUpsert(true))));
+            } else {
+                br.operations(o -> o.delete(d -> d.id(docId)));
+            }
+        }
+
+        try {
+            BulkResponse resp = es.bulk(br.build());
+            List<BulkResponseItem> items = resp.items();
+            for (int i = 0; i < userIds.size() && i < items.size(); i++) {
+                BulkResponseItem item = items.get(i);
+                if (item.error() != null && item.status() != 404) {
+                    dirty.add(userIds.get(i));
+                    log.warn("user_filters item failed: userId={}, status={}, reason={}",
+                            userIds.get(i), item.status(), item.error().reason());
+                }
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            dirty.addAll(userIds);
+            log.warn("user_filters bulk failed (users={}): {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    private void ensureIndex() throws Exception {
+        if (es.indices().exists(e -> e.index(USER_FILTER_INDEX)).value()) return;
+        try {
+            // lookup은 _source만 읽으므로 색인/doc_values 없이 저장만
+            es.indices().create(c -> c
+                    .index(USER_FILTER_INDEX)
+                    .settings(s -> s.numberOfShards("1"))
+                    .mappings(m -> m
+                            .dynamic(DynamicMapping.False)
+                            .properties(USER_FILTER_BLOCKED_PATH, p -> p.long_(l -> l.index(false).docValues(false)))));
+            log.info("user_filters index created");
+        } catch (ElasticsearchException e) {
+            // 다른 노드가 먼저 만든 경우
+            if (!"resource_already_exists_exception".equals(e.error().type())) throw e;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package core.global.service;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Redis 채팅 채널로 오가는 바이너리 봉투: [버전 1바이트][roomId 8바이트][본문(JSON 바이트)].
+ * 수신 측은 헤더만 읽어 라우팅하고 본문은 파싱하지 않은 채 그대로 STOMP로 넘깁니다.
+ */
+public final class ChatEnvelope {
+
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 1 + Long.BYTES;
+
+    private ChatEnvelope() {}
+
+    public static byte[] encode(long roomId, byte[] body) {
+        return ByteBuffer.allocate(HEADER_SIZE + body.length)
+                .put(VERSION)
+                .putLong(roomId)
+                .put(body)
+                .array();
+    }
+
+    public static long roomId(byte[] envelope) {
+        check(envelope);
+        return ByteBuffer.wrap(envelope, 1, Long.BYTES).getLong();
+    }
+
+    public static byte[] body(byte[] envelope) {
+        check(envelope);
+        byte[] body = new byte[envelope.length - HEADER_SIZE];
+        System.arraycopy(envelope, HEADER_SIZE, body, 0, body.length);
+        return body;
+    }
+
+    private static void check(byte[] envelope) {
+        if (envelope == null || envelope.length < HEADER_SIZE || envelope[0] != VERSION) {
+            throw new IllegalArgumentException("Unknown chat envelope");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package core.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드의 STOMP 세션이 구독 중인 채팅방만 Redis 방별 채널을 구독합니다.
+ * SUBSCRIBE /topic/room.{id} 에서 방별 구독 수를 올리고, UNSUBSCRIBE/DISCONNECT에서 내려
+ * 0→1이면 채널 구독을 추가하고 1→0이면 해제합니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomSubscriptions {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/room.";
+
+    private final RedisMessageListenerContainer container;
+    private final RedisChatSubscriber subscriber;
+
+    /** sessionId → (subscriptionId → roomId) */
+    private final Map<String, Map<String, Long>> sessions = new ConcurrentHashMap<>();
+    /** roomId → 이 노드의 구독 수 */
+    private final Map<Long, Integer> rooms = new ConcurrentHashMap<>();
+    /** 채널 구독이 걸려 있는 방 (자신을 잠금으로 씀) */
+    private final Set<Long> listening = new HashSet<>();
+
+    public ChatRoomSubscriptions(RedisMessageListenerContainer container, RedisChatSubscriber subscriber) {
+        this.container = container;
+        this.subscriber = subscriber;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = roomIdOf(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+
+        Long previous = sessions.computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomId);
+        // 같은 id로 같은 방을 다시 구독해도 채널이 잠깐 끊기지 않도록 먼저 올리고 내림
+        acquire(roomId);
+        if (previous != null) release(previous);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+
+        Map<String, Long> subs = sessions.get(accessor.getSessionId());
+        Long roomId = (subs == null) ? null : subs.remove(accessor.getSubscriptionId());
+        if (roomId != null) release(roomId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subs = sessions.remove(event.getSessionId());
+        if (subs != null) subs.values().forEach(this::release);
+    }
+
+    /** 이 노드에서 방을 구독 중인 STOMP 구독 수 */
+    public int localSubscribers(Long roomId) {
+        return rooms.getOrDefault(roomId, 0);
+    }
+
+    private void acquire(Long roomId) {
+        // 맵 잠금 안에서는 구독 수만 바꾸고, 채널 구독 변경은 잠금 밖에서
+        if (rooms.merge(roomId, 1, Integer::sum) == 1) syncChannel(roomId);
+    }
+
+    private void release(Long roomId) {
+        if (rooms.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null) == null) {
+            syncChannel(roomId);
+        }
+    }
+
+    /**
+     * 채널 구독을 현재 구독 수에 맞춥니다. 0→1과 1→0이 엇갈려 호출 순서가 뒤바뀌어도
+     * 잠금 안에서 최신 구독 수를 다시 읽으므로 마지막 호출이 최종 상태를 맞춥니다.
+     */
+    private void syncChannel(Long roomId) {
+        synchronized (listening) {
+            boolean wanted = rooms.containsKey(roomId);
+            if (wanted == listening.contains(roomId)) return;
+
+            ChannelTopic topic = new ChannelTopic(RedisChatPublisher.channelOf(roomId));
+            if (wanted) {
+                container.addMessageListener(subscriber, topic);
+                listening.add(roomId);
+                log.debug("chat room channel subscribed: roomId={}", roomId);
+            } else {
+                container.removeMessageListener(subscriber, topic);
+                listening.remove(roomId);
+                log.debug("chat room channel unsubscribed: roomId={}", roomId);
+            }
+        }
+    }
+
+    private static Long roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) return null;
+        try {
+            return Long.parseLong(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
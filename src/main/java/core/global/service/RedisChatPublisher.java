@@ -1,20 +1,34 @@
 package core.global.service;
 
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채팅 메시지를 방별 Redis 채널(chat:room:{roomId})로 발행합니다.
+ * 해당 방을 구독 중인 STOMP 세션이 있는 노드만 그 채널을 구독하므로, 다른 방의 메시지는 받지 않습니다.
+ */
 @Component
 public class RedisChatPublisher {
+
+    public static final String CHANNEL_PREFIX = "chat:room:";
+
     private final RedisTemplate<String, String> redisTemplate;
-    private final ChannelTopic topic;
 
-    public RedisChatPublisher(RedisTemplate<String, String> redisTemplate, ChannelTopic topic) {
+    public RedisChatPublisher(RedisTemplate<String, String> redisTemplate) {
         this.redisTemplate = redisTemplate;
-        this.topic = topic;
     }
 
-    public void publish(String messageJson) {
-        redisTemplate.convertAndSend(topic.getTopic(), messageJson);
+    public static String channelOf(Long roomId) {
+        return CHANNEL_PREFIX + roomId;
+    }
+
+    public void publish(Long roomId, String messageJson) {
+        byte[] channel = channelOf(roomId).getBytes(StandardCharsets.UTF_8);
+        byte[] envelope = ChatEnvelope.encode(roomId, messageJson.getBytes(StandardCharsets.UTF_8));
+        redisTemplate.execute((RedisCallback<Long>) (RedisConnection c) -> c.publish(channel, envelope));
     }
-}
\ No newline at end of file
+}
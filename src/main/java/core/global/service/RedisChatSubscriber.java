@@ -1,13 +1,25 @@
 package core.global.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
+import java.util.Map;
+
+/**
+ * 방별 채널에서 받은 봉투의 헤더로 방을 찾고, 본문 바이트는 파싱 없이 /topic/room.{id}로 전달합니다.
+ */
+@Slf4j
 @Component
 public class RedisChatSubscriber implements MessageListener {
 
+    private static final Map<String, Object> JSON_HEADERS =
+            Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON);
+
     private final SimpMessagingTemplate simp;
 
     public RedisChatSubscriber(SimpMessagingTemplate simp) {
@@ -16,15 +28,13 @@ public class RedisChatSubscriber implements MessageListener {
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
-
-        String payload = new String(message.getBody());
         try {
-            com.fasterxml.jackson.databind.ObjectMapper om = new com.fasterxml.jackson.databind.ObjectMapper();
-            var node = om.readTree(payload);
-            Long roomId = node.get("roomId").asLong();
-            simp.convertAndSend("/topic/room." + roomId, payload);
+            byte[] envelope = message.getBody();
+            long roomId = ChatEnvelope.roomId(envelope);
+            simp.convertAndSend("/topic/room." + roomId, ChatEnvelope.body(envelope), JSON_HEADERS);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("chat message relay failed (channel={}): {}",
+                    new String(message.getChannel()), e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
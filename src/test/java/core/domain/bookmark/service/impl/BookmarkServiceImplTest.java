@@ -1,6 +1,7 @@
 package core.domain.bookmark.service.impl;
 
 import core.domain.bookmark.dto.BookmarkItem;
+import core.domain.bookmark.dto.BookmarkRow;
 import core.domain.bookmark.entity.Bookmark;
 import core.domain.bookmark.repository.BookmarkRepository;
 import core.domain.comment.repository.CommentRepository;
@@ -21,10 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -38,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -117,6 +116,11 @@ class BookmarkServiceImplTest {
             f.setAccessible(true);
             f.set(p, content);
         } catch (Exception ignored) {}
+        try {
+            var f = Post.class.getDeclaredField("preview");
+            f.setAccessible(true);
+            f.set(p, Post.previewOf(content));
+        } catch (Exception ignored) {}
         try {
             var f = Post.class.getDeclaredField("author");
             f.setAccessible(true);
@@ -145,6 +149,11 @@ class BookmarkServiceImplTest {
         return b;
     }
 
+    private BookmarkRow row(Long bookmarkId, Long postId, String content, User author, boolean anonymous, Long checkCount) {
+        return new BookmarkRow(bookmarkId, postId, Post.previewOf(content), anonymous, checkCount,
+                author.getId(), author.getName());
+    }
+
     // ---------- tests ----------
     @Nested
     @DisplayName("getMyBookmarks")
@@ -156,23 +165,16 @@ class BookmarkServiceImplTest {
             // given
             int size = 2;
 
-            User alice = user(10L, "alice", AUTH_EMAIL);
             User bob = user(20L, "bob", "bob@example.com");
 
-            Post p1 = post(101L, "첫 번째 포스트", bob, false, 5L);
-            Post p2 = post(102L, "두 번째 포스트", bob, false, 0L);
-            Post p3 = post(103L, "세 번째 포스트", bob, false, 2L);
-
-            Bookmark b1 = bookmark(1001L, alice, p1);
-            Bookmark b2 = bookmark(1000L, alice, p2);
-            Bookmark b3 = bookmark(999L,  alice, p3);
-
-            List<Bookmark> pageContent = List.of(b1, b2, b3);
-            Pageable pageable = PageRequest.of(0, size + 1);
-            Slice<Bookmark> slice = new SliceImpl<>(pageContent, pageable, true);
+            List<BookmarkRow> pageContent = List.of(
+                    row(1001L, 101L, "첫 번째 포스트", bob, false, 5L),
+                    row(1000L, 102L, "두 번째 포스트", bob, false, 0L),
+                    row(999L,  103L, "세 번째 포스트", bob, false, 2L)
+            );
 
-            given(bookmarkRepository.findByUserEmailOrderByIdDesc(eq(AUTH_EMAIL), any(Pageable.class)))
-                    .willReturn(slice);
+            given(bookmarkRepository.findMyBookmarkRows(eq(AUTH_EMAIL), isNull(), any(Pageable.class)))
+                    .willReturn(pageContent);
 
             // 집계/이미지: 표시 대상은 2개(101, 102)
             given(likeRepository.countByRelatedIds(eq(LIKE_TYPE_POST), eq(List.of(101L, 102L))))
@@ -220,11 +222,9 @@ class BookmarkServiceImplTest {
         @DisplayName("결과 비어있으면 빈 페이지 반환")
         void emptyResult() {
             int size = 20;
-            Pageable pageable = PageRequest.of(0, size + 1);
-            Slice<Bookmark> emptySlice = new SliceImpl<>(List.of(), pageable, false);
 
-            given(bookmarkRepository.findByUserEmailOrderByIdDesc(eq(AUTH_EMAIL), any(Pageable.class)))
-                    .willReturn(emptySlice);
+            given(bookmarkRepository.findMyBookmarkRows(eq(AUTH_EMAIL), isNull(), any(Pageable.class)))
+                    .willReturn(List.of());
 
             CursorPageResponse<BookmarkItem> res =
                     sut.getMyBookmarks(size, null);
@@ -241,21 +241,15 @@ class BookmarkServiceImplTest {
             long cursorId = 1000L;
             String cursor = CursorCodec.encodeId(cursorId);
 
-            User alice = user(10L, "alice", AUTH_EMAIL);
             User bob = user(20L, "bob", "bob@example.com");
 
-            Post p3 = post(103L, "세 번째 포스트", bob, false, 1L);
-            Post p4 = post(104L, "네 번째 포스트", bob, false, 0L);
-
-            Bookmark b3 = bookmark(999L, alice, p3);
-            Bookmark b4 = bookmark(998L, alice, p4);
-
-            List<Bookmark> pageContent = List.of(b3, b4);
-            Pageable pageable = PageRequest.of(0, size + 1);
-            Slice<Bookmark> slice = new SliceImpl<>(pageContent, pageable, false);
+            List<BookmarkRow> pageContent = List.of(
+                    row(999L, 103L, "세 번째 포스트", bob, false, 1L),
+                    row(998L, 104L, "네 번째 포스트", bob, false, 0L)
+            );
 
-            given(bookmarkRepository.findByUserEmailAndIdLessThanOrderByIdDesc(eq(AUTH_EMAIL), eq(cursorId), any(Pageable.class)))
-                    .willReturn(slice);
+            given(bookmarkRepository.findMyBookmarkRows(eq(AUTH_EMAIL), eq(cursorId), any(Pageable.class)))
+                    .willReturn(pageContent);
 
             given(likeRepository.countByRelatedIds(eq(LIKE_TYPE_POST), eq(List.of(103L, 104L))))
                     .willReturn(List.<Object[]>of(new Object[]{103L, 1L}));
@@ -0,0 +1,161 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.global.enums.ChatParticipantStatus;
+import core.global.pagination.CursorPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ChatInboxServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "chat:inbox:1";
+
+    @Mock private StringRedisTemplate redis;
+    @Mock private ChatRoomMembers members;
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private ChatParticipantRepository chatParticipantRepository;
+    @Mock private ZSetOperations<String, String> zSet;
+
+    @InjectMocks
+    private ChatInboxService inboxService;
+
+    @BeforeEach
+    void setUp() {
+        given(redis.opsForZSet()).willReturn(zSet);
+    }
+
+    @SafeVarargs
+    private static Set<TypedTuple<String>> tuples(TypedTuple<String>... ts) {
+        return new LinkedHashSet<>(Arrays.asList(ts));
+    }
+
+    private static TypedTuple<String> room(long roomId, double score) {
+        return new DefaultTypedTuple<>(String.valueOf(roomId), score);
+    }
+
+    /** 요약 HMGET 결과(name, group, participants, lastMessage, senderId, sentAt) + 마지막에 안 읽은 수 HMGET */
+    private void givenSummaries(String participants, long... roomIds) {
+        List<Object> results = new ArrayList<>();
+        List<Object> unread = new ArrayList<>();
+        for (long ignored : roomIds) {
+            results.add(Arrays.asList("room", "true", participants, "hi", "2", null));
+            unread.add(null);
+        }
+        results.add(unread);
+        given(redis.executePipelined(any(RedisCallback.class))).willReturn(results);
+    }
+
+    private static List<Long> ids(CursorPageResponse<ChatRoomSummaryResponse> res) {
+        return res.items().stream().map(ChatRoomSummaryResponse::roomId).toList();
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 방이 페이지 경계에 걸쳐도 빠지거나 겹치지 않음")
+    void list_pagesAcrossSameScoreRooms() {
+        // REV 순서: 같은 점수 안에서는 멤버 역사전순 "9" > "7" > "10"
+        given(redis.hasKey(KEY)).willReturn(true);
+        given(zSet.reverseRangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 3))
+                .willReturn(tuples(room(9, 1000), room(7, 1000), room(10, 1000)));
+        givenSummaries("1,2", 9, 7);
+
+        CursorPageResponse<ChatRoomSummaryResponse> first = inboxService.list(USER_ID, null, 2);
+
+        assertThat(ids(first)).containsExactly(9L, 7L);
+        assertThat(first.hasNext()).isTrue();
+
+        given(zSet.reverseRangeByScoreWithScores(KEY, 1000, 1000))
+                .willReturn(tuples(room(9, 1000), room(7, 1000), room(10, 1000)));
+        given(zSet.reverseRangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, 999, 0, 2))
+                .willReturn(tuples(room(3, 900)));
+        givenSummaries("1,2", 10, 3);
+
+        CursorPageResponse<ChatRoomSummaryResponse> second = inboxService.list(USER_ID, first.nextCursor(), 2);
+
+        assertThat(ids(second)).containsExactly(10L, 3L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 점수의 남은 방만으로 페이지가 차면 더 낮은 점수는 읽지 않음")
+    void list_tiesFillWholePage() {
+        given(redis.hasKey(KEY)).willReturn(true);
+        given(zSet.reverseRangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 2))
+                .willReturn(tuples(room(9, 1000), room(8, 1000)));
+        givenSummaries("1,2", 9);
+        String cursor = inboxService.list(USER_ID, null, 1).nextCursor();
+
+        given(zSet.reverseRangeByScoreWithScores(KEY, 1000, 1000))
+                .willReturn(tuples(room(9, 1000), room(8, 1000), room(7, 1000)));
+        givenSummaries("1,2", 8);
+
+        CursorPageResponse<ChatRoomSummaryResponse> second = inboxService.list(USER_ID, cursor, 1);
+
+        assertThat(ids(second)).containsExactly(8L);
+        assertThat(second.hasNext()).isTrue();
+        then(zSet).should(never()).reverseRangeByScoreWithScores(eq(KEY), anyDouble(), eq(999.0), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("요약에 사용자가 없어도 DB상 참여 중이면 목록에 남기고 인박스에서 빼지 않음")
+    void list_staleParticipants_keepsRoom() {
+        given(redis.hasKey(KEY)).willReturn(true);
+        given(zSet.reverseRangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 2))
+                .willReturn(tuples(room(9, 1000)));
+        givenSummaries("2", 9);
+        given(chatParticipantRepository.existsByChatRoomIdAndUserIdAndStatus(9L, USER_ID, ChatParticipantStatus.ACTIVE))
+                .willReturn(true);
+        given(chatParticipantRepository.findUserIdsByChatRoomIdAndStatus(9L, ChatParticipantStatus.ACTIVE))
+                .willReturn(List.of(1L, 2L));
+
+        CursorPageResponse<ChatRoomSummaryResponse> res = inboxService.list(USER_ID, null, 1);
+
+        assertThat(ids(res)).containsExactly(9L);
+        assertThat(res.items().get(0).participantIds()).containsExactly(1L, 2L);
+        then(zSet).should(never()).remove(KEY, "9");
+    }
+
+    @Test
+    @DisplayName("DB상으로도 나간 방이면 인박스에서 제거")
+    void list_leftRoom_removedFromInbox() {
+        given(redis.hasKey(KEY)).willReturn(true);
+        given(zSet.reverseRangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 2))
+                .willReturn(tuples(room(9, 1000)));
+        givenSummaries("2", 9);
+        given(chatParticipantRepository.existsByChatRoomIdAndUserIdAndStatus(9L, USER_ID, ChatParticipantStatus.ACTIVE))
+                .willReturn(false);
+
+        CursorPageResponse<ChatRoomSummaryResponse> res = inboxService.list(USER_ID, null, 1);
+
+        assertThat(res.items()).isEmpty();
+        then(zSet).should().remove(KEY, "9");
+    }
+}
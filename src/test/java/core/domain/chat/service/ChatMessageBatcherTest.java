@@ -0,0 +1,176 @@
+package core.domain.chat.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import core.domain.chat.entity.ChatMessage;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageBatcherTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    @Mock private MongoTemplate mongoTemplate;
+    @Mock private ChatSequencer sequencer;
+
+    private ChatMessageBatcher batcher;
+
+    // insert 호출마다 넘어온 문서의 seq (호출 시점 값)
+    private final List<List<Long>> insertedSeqs = Collections.synchronizedList(new ArrayList<>());
+    // 완료 콜백이 불린 순서
+    private final List<ChatMessage> completionOrder = Collections.synchronizedList(new ArrayList<>());
+
+    private final CountDownLatch firstInsertStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstInsert = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개: 방 하나의 drain 순서를 그대로 관찰
+        batcher = new ChatMessageBatcher(mongoTemplate, sequencer, 200, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstInsert.countDown();
+        batcher.shutdown();
+    }
+
+    private static ChatMessage message(String content) {
+        return new ChatMessage(ROOM_ID, 1L, content);
+    }
+
+    private static MongoBulkWriteException bulkError(int index, int code, String message) {
+        return new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                List.of(new BulkWriteError(code, message, new BsonDocument(), index)),
+                null, new ServerAddress(), Set.of());
+    }
+
+    private CompletableFuture<ChatMessage> submit(ChatMessage m) {
+        CompletableFuture<ChatMessage> f = batcher.submit(m);
+        f.whenComplete((r, e) -> completionOrder.add(m));
+        return f;
+    }
+
+    /**
+     * 첫 insert(1건)는 release 전까지 막아 두고, 그동안 들어온 메시지가 다음 배치 하나로 묶이게 함.
+     * 두 번째 insert는 secondInsert가 던지는 예외로 실패, 이후 insert는 성공
+     */
+    private void givenInserts(RuntimeException secondInsert) {
+        willAnswer(inv -> {
+            Collection<ChatMessage> docs = inv.getArgument(0);
+            int call = insertedSeqs.size();
+            insertedSeqs.add(docs.stream().map(ChatMessage::getSeq).toList());
+            if (call == 0) {
+                firstInsertStarted.countDown();
+                assertThat(releaseFirstInsert.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            if (call == 1) throw secondInsert;
+            return docs;
+        }).given(mongoTemplate).insert(anyCollection(), eq(ChatMessage.class));
+    }
+
+    /** m0 저장 중에 m1~m3를 넣어 [m1, m2, m3] 한 배치로 저장되게 함 */
+    private List<CompletableFuture<ChatMessage>> submitBatchBehindFirst(List<ChatMessage> messages) throws Exception {
+        List<CompletableFuture<ChatMessage>> futures = new ArrayList<>();
+        futures.add(submit(messages.get(0)));
+        assertThat(firstInsertStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (ChatMessage m : messages.subList(1, messages.size())) futures.add(submit(m));
+        releaseFirstInsert.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .get(5, TimeUnit.SECONDS);
+        return futures;
+    }
+
+    @Test
+    @DisplayName("seq 충돌로 k번째에서 실패 - 앞 k건은 그대로 완료, 나머지는 새 구간으로 재저장되고 완료 순서는 seq 순")
+    void seqConflict_completesPrefixAndRetriesRest() throws Exception {
+        given(sequencer.allocate(ROOM_ID, 1)).willReturn(1L);
+        given(sequencer.allocate(ROOM_ID, 3)).willReturn(2L);
+        given(sequencer.reallocate(ROOM_ID, 2)).willReturn(10L);
+        givenInserts(new DuplicateKeyException("dup",
+                bulkError(1, 11000, "E11000 duplicate key error index: room_seq_idx dup key")));
+        List<ChatMessage> messages = List.of(message("m0"), message("m1"), message("m2"), message("m3"));
+
+        List<CompletableFuture<ChatMessage>> futures = submitBatchBehindFirst(messages);
+
+        assertThat(futures).allSatisfy(f -> assertThat(f).isCompleted().isNotCompletedExceptionally());
+        assertThat(insertedSeqs).containsExactly(List.of(1L), List.of(2L, 3L, 4L), List.of(10L, 11L));
+        assertThat(messages).extracting(ChatMessage::getSeq).containsExactly(1L, 2L, 10L, 11L);
+        assertThat(messages).allSatisfy(m -> assertThat(m.getId()).isNotNull());
+        assertThat(completionOrder).containsExactlyElementsOf(messages);
+    }
+
+    @Test
+    @DisplayName("seq 충돌이 아닌 실패 - 앞 k건만 완료, 나머지는 재시도 없이 실패")
+    void otherWriteError_completesPrefixAndFailsRest() throws Exception {
+        given(sequencer.allocate(ROOM_ID, 1)).willReturn(1L);
+        given(sequencer.allocate(ROOM_ID, 3)).willReturn(2L);
+        givenInserts(new DataIntegrityViolationException("invalid",
+                bulkError(2, 121, "Document failed validation")));
+        List<ChatMessage> messages = List.of(message("m0"), message("m1"), message("m2"), message("m3"));
+
+        List<CompletableFuture<ChatMessage>> futures = submitBatchBehindFirst(messages);
+
+        assertThat(futures.subList(0, 3)).allSatisfy(f -> assertThat(f).isCompleted().isNotCompletedExceptionally());
+        assertThat(futures.get(3)).isCompletedExceptionally();
+        assertThat(completionOrder).containsExactlyElementsOf(messages);
+        then(sequencer).should(never()).reallocate(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("drain이 끝난 방의 큐는 제거되고, 이후 메시지는 새 큐로 저장")
+    void idleRoomQueue_isRemoved() throws Exception {
+        given(sequencer.allocate(eq(ROOM_ID), anyInt())).willReturn(1L, 2L);
+        given(mongoTemplate.insert(anyCollection(), eq(ChatMessage.class))).willAnswer(inv -> inv.getArgument(0));
+        Map<?, ?> rooms = (Map<?, ?>) ReflectionTestUtils.getField(batcher, "rooms");
+
+        batcher.submit(message("m0")).get(5, TimeUnit.SECONDS);
+        awaitEmpty(rooms);
+
+        ChatMessage saved = batcher.submit(message("m1")).get(5, TimeUnit.SECONDS);
+        awaitEmpty(rooms);
+
+        assertThat(saved.getSeq()).isEqualTo(2L);
+    }
+
+    // 완료 콜백 뒤 drain의 finally에서 제거되므로 잠깐 기다림
+    private static void awaitEmpty(Map<?, ?> rooms) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!rooms.isEmpty() && System.nanoTime() < deadline) Thread.sleep(5);
+        assertThat(rooms).isEmpty();
+    }
+}
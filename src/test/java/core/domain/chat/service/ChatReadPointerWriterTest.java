@@ -0,0 +1,69 @@
+package core.domain.chat.service;
+
+import core.domain.chat.repository.ChatParticipantRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatReadPointerWriterTest {
+
+    @Mock private ChatParticipantRepository chatParticipantRepository;
+
+    @InjectMocks
+    private ChatReadPointerWriter writer;
+
+    @Test
+    @DisplayName("같은 (방, 사용자)의 ack는 가장 큰 seq 하나로 합쳐 한 번만 씀")
+    void flush_coalescesToHighestSeq() {
+        writer.offer(7L, 1L, "m5", 5L);
+        writer.offer(7L, 1L, "m9", 9L);
+        writer.offer(7L, 1L, "m6", 6L);
+
+        writer.flush();
+
+        then(chatParticipantRepository).should(times(1))
+                .updateLastReadMessageId(7L, 1L, "m9", 9L);
+        then(chatParticipantRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("쓰기 실패 - 다음 flush에서 다시 씀")
+    void flush_retriesFailedWrite() {
+        writer.offer(7L, 1L, "m9", 9L);
+        willThrow(new RuntimeException("db down"))
+                .given(chatParticipantRepository).updateLastReadMessageId(7L, 1L, "m9", 9L);
+        writer.flush();
+
+        willReturn(1).given(chatParticipantRepository).updateLastReadMessageId(7L, 1L, "m9", 9L);
+        writer.flush();
+
+        then(chatParticipantRepository).should(times(2)).updateLastReadMessageId(7L, 1L, "m9", 9L);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 포인터를 씀")
+    void shutdown_flushesPending() {
+        writer.offer(7L, 1L, "m3", 3L);
+
+        writer.flushOnShutdown();
+
+        then(chatParticipantRepository).should().updateLastReadMessageId(7L, 1L, "m3", 3L);
+    }
+
+    @Test
+    @DisplayName("쌓인 것이 없으면 DB를 호출하지 않음")
+    void flush_nothingPending() {
+        writer.flush();
+
+        then(chatParticipantRepository).shouldHaveNoInteractions();
+    }
+}
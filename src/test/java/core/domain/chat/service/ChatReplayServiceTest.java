@@ -0,0 +1,118 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ChatReplayServiceTest {
+
+    private static final Long ROOM_ID = 3L;
+    private static final String STREAM_KEY = "chat:room:3:stream";
+    private static final int MAX_REPLAY = 500;
+
+    @Mock private StringRedisTemplate redis;
+    @Mock private StreamOperations<String, Object, Object> streamOps;
+    @Mock private SimpMessagingTemplate simp;
+    @Mock private ChatMessageRepository chatMessageRepository;
+    @Mock private ChatParticipantRepository chatParticipantRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ChatReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChatReplayService(redis, simp, chatMessageRepository, chatParticipantRepository,
+                objectMapper, 200, 86_400, MAX_REPLAY);
+        given(redis.<Object, Object>opsForStream()).willReturn(streamOps);
+    }
+
+    /** 최신부터 거꾸로 (XREVRANGE 순서) */
+    private void streamHolds(long... seqsNewestFirst) {
+        List<MapRecord<String, Object, Object>> page = new java.util.ArrayList<>();
+        for (long seq : seqsNewestFirst) {
+            Map<Object, Object> fields = new HashMap<>();
+            fields.put("seq", String.valueOf(seq));
+            fields.put("body", "{\"seq\":" + seq + "}");
+            page.add(StreamRecords.newRecord().in(STREAM_KEY).withId(RecordId.of(seq, 0)).ofMap(fields));
+        }
+        given(streamOps.reverseRange(eq(STREAM_KEY), any(Range.class),
+                any(org.springframework.data.redis.connection.Limit.class))).willReturn(page);
+    }
+
+    @Test
+    @DisplayName("스트림에 lastSeq 다음 구간이 빈틈없이 있으면 스트림에서 seq 순으로, Mongo는 읽지 않음")
+    void contiguousStream_servedFromStream() throws Exception {
+        // 노드 간 XADD 순서가 살짝 어긋난 경우(6이 5보다 먼저)도 seq 순으로 정렬
+        streamHolds(7, 5, 6, 4, 3);
+
+        List<String> missed = service.missedSince(ROOM_ID, 4);
+
+        assertThat(missed).containsExactly("{\"seq\":5}", "{\"seq\":6}", "{\"seq\":7}");
+        then(chatMessageRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("스트림 중간이 빠져 있으면 Mongo에서 seq 순으로")
+    void gapInStream_fallsBackToMongo() throws Exception {
+        streamHolds(8, 7, 5, 4);
+        Instant now = Instant.parse("2025-08-01T00:00:00Z");
+        given(chatMessageRepository.findAfterSeq(ROOM_ID, 4L, Limit.of(MAX_REPLAY))).willReturn(List.of(
+                new ChatMessageResponse("a", ROOM_ID, 5L, 1L, "five", now),
+                new ChatMessageResponse("b", ROOM_ID, 6L, 1L, "six", now),
+                new ChatMessageResponse("c", ROOM_ID, 7L, 2L, "seven", now),
+                new ChatMessageResponse("d", ROOM_ID, 8L, 2L, "eight", now)));
+
+        List<String> missed = service.missedSince(ROOM_ID, 4);
+
+        assertThat(missed).hasSize(4);
+        assertThat(objectMapper.readTree(missed.get(1)).get("seq").asLong()).isEqualTo(6L);
+        assertThat(objectMapper.readTree(missed.get(1)).get("content").asText()).isEqualTo("six");
+    }
+
+    @Test
+    @DisplayName("window를 지나쳐 lastSeq가 스트림에 없으면 Mongo에서")
+    void windowPassed_fallsBackToMongo() throws Exception {
+        streamHolds(10, 9);
+        given(chatMessageRepository.findAfterSeq(ROOM_ID, 4L, Limit.of(MAX_REPLAY))).willReturn(List.of());
+
+        service.missedSince(ROOM_ID, 4);
+
+        then(chatMessageRepository).should().findAfterSeq(ROOM_ID, 4L, Limit.of(MAX_REPLAY));
+    }
+
+    @Test
+    @DisplayName("밀린 메시지가 없으면 빈 목록, Mongo는 읽지 않음")
+    void upToDate_returnsEmpty() throws Exception {
+        streamHolds(4, 3);
+
+        assertThat(service.missedSince(ROOM_ID, 4)).isEmpty();
+        then(chatMessageRepository).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,82 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSequencerTest {
+
+    private static final Long ROOM_ID = 7L;
+    private static final List<String> KEY = List.of("chat:room:7:seq");
+
+    @Mock private StringRedisTemplate redis;
+    @Mock private ChatMessageRepository chatMessageRepository;
+
+    @InjectMocks
+    private ChatSequencer sequencer;
+
+    private static ChatMessage stored(long seq) {
+        ChatMessage m = new ChatMessage(ROOM_ID, 1L, "hi");
+        m.assignSeq(seq);
+        return m;
+    }
+
+    @Test
+    @DisplayName("카운터가 있으면 INCRBY 결과로 구간 발급, Mongo는 읽지 않음")
+    void allocate_existingCounter() {
+        given(redis.execute(any(RedisScript.class), eq(KEY), eq("3"))).willReturn(12L);
+
+        long first = sequencer.allocate(ROOM_ID, 3);
+
+        assertThat(first).isEqualTo(10L);
+        then(chatMessageRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("카운터 유실 - 발급 경로에서 Mongo 마지막 seq를 하한으로 다시 올려 이어서 발급")
+    void allocate_afterKeyLoss_seedsFromMongo() {
+        given(redis.execute(any(RedisScript.class), eq(KEY), eq("3"))).willReturn(-1L);
+        given(chatMessageRepository.findLastSeq(ROOM_ID, Limit.of(1))).willReturn(List.of(stored(41L)));
+        given(redis.execute(any(RedisScript.class), eq(KEY), eq("3"), eq("41"))).willReturn(44L);
+
+        long first = sequencer.allocate(ROOM_ID, 3);
+
+        assertThat(first).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("처음 보는 방 - 저장된 메시지가 없으면 1부터")
+    void allocate_newRoom_startsAtOne() {
+        given(redis.execute(any(RedisScript.class), eq(KEY), eq("2"))).willReturn(-1L);
+        given(chatMessageRepository.findLastSeq(ROOM_ID, Limit.of(1))).willReturn(List.of());
+        given(redis.execute(any(RedisScript.class), eq(KEY), eq("2"), eq("0"))).willReturn(2L);
+
+        assertThat(sequencer.allocate(ROOM_ID, 2)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("seq 충돌 뒤 재발급 - 다른 노드가 그 사이 저장한 seq 다음부터")
+    void reallocate_usesLatestStoredSeq() {
+        given(chatMessageRepository.findLastSeq(ROOM_ID, Limit.of(1))).willReturn(List.of(stored(120L)));
+        given(redis.execute(any(RedisScript.class), eq(KEY), eq("5"), eq("120"))).willReturn(125L);
+
+        assertThat(sequencer.reallocate(ROOM_ID, 5)).isEqualTo(121L);
+    }
+}
@@ -0,0 +1,99 @@
+package core.domain.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadServiceTest {
+
+    private static final Long ROOM_ID = 7L;
+    private static final byte[] FIELD = "7".getBytes(StandardCharsets.UTF_8);
+
+    @Mock private StringRedisTemplate redis;
+    @Mock private ChatRoomMembers members;
+    @Mock private HashOperations<String, Object, Object> hashOps;
+    @Mock private RedisConnection connection;
+    @Mock private RedisHashCommands hashCommands;
+
+    @InjectMocks
+    private ChatUnreadService unreadService;
+
+    private static byte[] key(long userId) {
+        return ("chat:unread:" + userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runPipeline() {
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        then(redis).should().executePipelined(callback.capture());
+        given(connection.hashCommands()).willReturn(hashCommands);
+        callback.getValue().doInRedis(connection);
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - 보낸 사람을 뺀 참여자 카운터만 한 파이프라인에서 1씩 증가")
+    void incrementForOthers_skipsSender() {
+        given(members.active(ROOM_ID)).willReturn(List.of(1L, 2L, 3L));
+
+        unreadService.incrementForOthers(ROOM_ID, 2L);
+
+        runPipeline();
+        then(hashCommands).should().hIncrBy(key(1L), FIELD, 1L);
+        then(hashCommands).should().hIncrBy(key(3L), FIELD, 1L);
+        then(hashCommands).should(never()).hIncrBy(eq(key(2L)), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("참여자가 없으면 Redis를 호출하지 않음")
+    void incrementForOthers_noMembers() {
+        given(members.active(ROOM_ID)).willReturn(List.of());
+
+        unreadService.incrementForOthers(ROOM_ID, 2L);
+
+        then(redis).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 해당 방 필드만 삭제")
+    void reset_deletesRoomField() {
+        given(redis.<Object, Object>opsForHash()).willReturn(hashOps);
+
+        unreadService.reset(ROOM_ID, 1L);
+
+        then(hashOps).should().delete("chat:unread:1", "7");
+    }
+
+    @Test
+    @DisplayName("지정한 방 조회 - 필드가 없는 방은 0")
+    void counts_missingRoomIsZero() {
+        given(redis.<Object, Object>opsForHash()).willReturn(hashOps);
+        given(hashOps.multiGet("chat:unread:1", List.of("7", "8"))).willReturn(Arrays.asList("4", null));
+
+        Map<Long, Long> counts = unreadService.counts(1L, List.of(7L, 8L));
+
+        assertThat(counts).containsEntry(7L, 4L).containsEntry(8L, 0L);
+    }
+}
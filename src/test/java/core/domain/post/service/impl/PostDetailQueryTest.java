@@ -0,0 +1,231 @@
+package core.domain.post.service.impl;
+
+import core.domain.board.entity.Board;
+import core.domain.board.repository.BoardRepository;
+import core.domain.post.dto.PostDetailResponse;
+import core.domain.post.dto.PostWriteRequest;
+import core.domain.post.entity.Post;
+import core.domain.post.entity.PostStats;
+import core.domain.post.repository.PostRepository;
+import core.domain.post.repository.PostStatsRepository;
+import core.domain.post.service.FeedPageCache;
+import core.domain.post.service.PostViewCountBuffer;
+import core.domain.user.entity.User;
+import core.domain.user.repository.BlockRepository;
+import core.domain.user.repository.UserRepository;
+import core.domain.user.service.BlockGraph;
+import core.global.config.CustomUserDetails;
+import core.global.config.QuerydslConfig;
+import core.global.enums.BoardCategory;
+import core.global.enums.ImageType;
+import core.global.enums.LikeType;
+import core.global.image.entity.Image;
+import core.global.image.repository.ImageRepository;
+import core.global.image.service.ImageService;
+import core.global.like.entity.Like;
+import core.global.like.repository.LikeRepository;
+import core.global.search.repository.SearchOutboxRepository;
+import core.global.service.ForbiddenWordService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상세 조회가 실제 Postgres에서 한 문장으로 끝나는지, 그 한 문장의 매핑(이미지 순서, 좋아요 여부,
+ * 게시판 카테고리, 작성자/아바타)이 맞는지 확인합니다. Docker가 없으면 건너뜁니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PostDetailQueryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private TestEntityManager em;
+    @Autowired private PostRepository postRepository;
+    @Autowired private StatementCounter statements;
+
+    private final BlockGraph blockGraph = mock(BlockGraph.class);
+    private final PostViewCountBuffer viewCountBuffer = mock(PostViewCountBuffer.class);
+
+    private PostServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PostServiceImpl(
+                postRepository,
+                mock(PostStatsRepository.class),
+                mock(SearchOutboxRepository.class),
+                viewCountBuffer,
+                mock(FeedPageCache.class),
+                mock(BoardRepository.class),
+                mock(LikeRepository.class),
+                mock(UserRepository.class),
+                mock(ImageRepository.class),
+                mock(ForbiddenWordService.class),
+                mock(ImageService.class),
+                mock(BlockRepository.class),
+                blockGraph,
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private User user(String first, String last, String email) {
+        return em.persist(User.builder().firstName(first).lastName(last).email(email).build());
+    }
+
+    private void loginAs(User viewer) {
+        CustomUserDetails principal = new CustomUserDetails(viewer.getId(), viewer.getEmail(), List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("getPostDetail - 이미지 여러 장, 좋아요한 뷰어: 준비된 문장 1개, 이미지 order_index 순, liked=true")
+    void getPostDetail_singleStatement() {
+        User author = user("Kim", "Bob", "bob@test.com");
+        User viewer = user("Lee", "Alice", "alice@test.com");
+        Board board = em.persist(new Board(BoardCategory.FREE_TALK));
+        Post post = em.persist(new Post(new PostWriteRequest("hello", false, List.of()), author, board));
+        em.persist(new PostStats(post));
+
+        // 저장 순서와 order_index를 일부러 어긋나게
+        em.persist(Image.of(ImageType.POST, post.getId(), "https://cdn/p/c.png", 2));
+        em.persist(Image.of(ImageType.POST, post.getId(), "https://cdn/p/a.png", 0));
+        em.persist(Image.of(ImageType.POST, post.getId(), "https://cdn/p/b.png", 1));
+        em.persist(Image.of(ImageType.USER, author.getId(), "https://cdn/u/bob.png", 0));
+        em.persist(Like.builder().user(viewer).type(LikeType.POST).relatedId(post.getId()).build());
+        em.flush();
+        em.clear();
+        loginAs(viewer);
+
+        statements.reset();
+        PostDetailResponse detail = service.getPostDetail(post.getId());
+
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(detail.postId()).isEqualTo(post.getId());
+        assertThat(detail.contentImageUrls())
+                .containsExactly("https://cdn/p/a.png", "https://cdn/p/b.png", "https://cdn/p/c.png");
+        assertThat(detail.isLiked()).isTrue();
+        assertThat(detail.boardCategory()).isEqualTo(BoardCategory.FREE_TALK);
+        assertThat(detail.authorName()).isEqualTo("Bob Kim");
+        assertThat(detail.userImageUrl()).isEqualTo("https://cdn/u/bob.png");
+        assertThat(detail.likeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("getPostDetail - 좋아요 안 한 뷰어, 익명 글: liked=false, 이미지 없음, 작성자/아바타 가림")
+    void getPostDetail_notLikedAnonymous() {
+        User author = user("Kim", "Bob", "bob@test.com");
+        User viewer = user("Lee", "Alice", "alice@test.com");
+        Board board = em.persist(new Board(BoardCategory.QNA));
+        Post post = em.persist(new Post(new PostWriteRequest("anon", true, List.of()), author, board));
+        em.persist(Image.of(ImageType.USER, author.getId(), "https://cdn/u/bob.png", 0));
+        em.flush();
+        em.clear();
+        loginAs(viewer);
+
+        statements.reset();
+        PostDetailResponse detail = service.getPostDetail(post.getId());
+
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(detail.isLiked()).isFalse();
+        assertThat(detail.contentImageUrls()).isEmpty();
+        assertThat(detail.boardCategory()).isEqualTo(BoardCategory.QNA);
+        assertThat(detail.authorName()).isEqualTo("Anonymity");
+        assertThat(detail.userImageUrl()).isNull();
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "core")
+    @EnableJpaRepositories(basePackageClasses = PostRepository.class)
+    @Import(QuerydslConfig.class)
+    static class Config {
+
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+    }
+
+    /** DataSource를 감싸 Connection에서 만든 Statement/PreparedStatement 수를 셉니다. */
+    static class StatementCounter implements BeanPostProcessor {
+
+        private final AtomicInteger prepared = new AtomicInteger();
+
+        int count() {
+            return prepared.get();
+        }
+
+        void reset() {
+            prepared.set(0);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) return bean;
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return counting(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return counting(super.getConnection(username, password));
+                }
+            };
+        }
+
+        private Connection counting(Connection target) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("prepareStatement") || name.equals("prepareCall") || name.equals("createStatement")) {
+                            prepared.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -5,7 +5,13 @@ import core.domain.board.repository.BoardRepository;
 import core.domain.post.dto.*;
 import core.domain.post.entity.Post;
 import core.domain.post.repository.PostRepository;
+import core.domain.post.repository.PostStatsRepository;
+import core.domain.post.service.FeedPageCache;
+import core.domain.post.service.PostViewCountBuffer;
 import core.domain.user.entity.User;
+import core.domain.user.repository.BlockRepository;
+import core.domain.user.service.BlockGraph;
+import core.global.config.CustomUserDetails;
 import core.domain.user.repository.UserRepository;
 import core.global.enums.BoardCategory;
 import core.global.enums.ImageType;
@@ -18,6 +24,8 @@ import core.global.like.repository.LikeRepository;
 import core.global.service.ForbiddenWordService;
 import core.global.pagination.CursorCodec;
 import core.global.pagination.CursorPageResponse;
+import core.global.search.entity.SearchOutbox;
+import core.global.search.repository.SearchOutboxRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -49,6 +57,12 @@ class PostServiceImplTest {
     @Mock private UserRepository userRepository;
     @Mock private ImageRepository imageRepository;
     @Mock private ForbiddenWordService forbiddenWordService;
+    @Mock private PostStatsRepository postStatsRepository;
+    @Mock private SearchOutboxRepository searchOutboxRepository;
+    @Mock private PostViewCountBuffer viewCountBuffer;
+    @Mock private FeedPageCache feedPageCache;
+    @Mock private BlockRepository blockRepository;
+    @Mock private BlockGraph blockGraph;
 
     @InjectMocks
     private PostServiceImpl service;
@@ -56,9 +70,11 @@ class PostServiceImplTest {
     // ─────────────────────────────────────────────────────────────────────────────
     // SecurityContext 세팅/정리
     // ─────────────────────────────────────────────────────────────────────────────
+    private Authentication auth;
+
     @BeforeEach
     void setUpSecurityContext() {
-        Authentication auth = mock(Authentication.class);
+        auth = mock(Authentication.class);
         given(auth.getName()).willReturn("alice");
         SecurityContext sc = mock(SecurityContext.class);
         given(sc.getAuthentication()).willReturn(auth);
@@ -74,37 +90,60 @@ class PostServiceImplTest {
     // Get PostDetail
     // ─────────────────────────────────────────────────────────────────────────────
     @Test
-    @DisplayName("getPostDetail - 조회수 증가(changeCheckCount) 호출 및 상세 조회 위임")
-    void getPostDetail_success() {
+    @DisplayName("getPostDetail - JWT userId로 뷰어를 식별하고 findPostDetailView 외 다른 리포지토리를 호출하지 않음")
+    void getPostDetail_onlyCallsDetailViewQuery() {
         Long postId = 100L;
-        Post post = mock(Post.class);
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(auth.getPrincipal()).willReturn(new CustomUserDetails(1L, "alice", List.of()));
 
-        // ★ 현재 사용자 name="alice" → 이름으로 유저 찾고, 이메일 꺼내서 사용
-        User u = mock(User.class);
-        given(userRepository.findByName("alice")).willReturn(Optional.of(u));
-        given(u.getEmail()).willReturn("alice@email.com");
-
-        PostDetailResponse detail = mock(PostDetailResponse.class);
-        given(postRepository.findPostDetail("alice@email.com", postId)).willReturn(detail);
+        PostDetailResponse detail = new PostDetailResponse(
+                postId, "content", "bob", BoardCategory.FREE_TALK, Instant.now(), "CHAT LINK",
+                true, 2L, 1L, 10L, null, List.of("a.png", "b.png"), 2);
+        given(postRepository.findPostDetailView(1L, postId)).willReturn(new PostDetailView(2L, detail));
+        given(viewCountBuffer.pending(postId)).willReturn(3L);
 
         PostDetailResponse result = service.getPostDetail(postId);
 
-        then(post).should().changeCheckCount();
-        then(postRepository).should().findPostDetail("alice@email.com", postId);
-        assertThat(result).isSameAs(detail);
+        // 서비스 계층 호출만 검증 (findById/이메일 조회/차단 exists 호출 없음). 실제 문장 수는 PostDetailQueryTest에서 확인
+        then(postRepository).should(times(1)).findPostDetailView(1L, postId);
+        then(postRepository).shouldHaveNoMoreInteractions();
+        then(userRepository).shouldHaveNoInteractions();
+        then(blockRepository).shouldHaveNoInteractions();
+        then(likeRepository).shouldHaveNoInteractions();
+        then(imageRepository).shouldHaveNoInteractions();
+
+        then(blockGraph).should().isHidden(1L, 2L);
+        then(viewCountBuffer).should().record(postId, "alice");
+        assertThat(result.viewCount()).isEqualTo(13L);
+        assertThat(result.isLiked()).isTrue();
+        assertThat(result.contentImageUrls()).containsExactly("a.png", "b.png");
     }
 
     @Test
     @DisplayName("getPostDetail - 게시글 없음 예외")
     void getPostDetail_notFound() {
-        given(postRepository.findById(1L)).willReturn(Optional.empty());
+        given(auth.getPrincipal()).willReturn(new CustomUserDetails(1L, "alice", List.of()));
+        given(postRepository.findPostDetailView(1L, 1L)).willReturn(null);
+
         assertThatThrownBy(() -> service.getPostDetail(1L))
                 .isInstanceOf(BusinessException.class)
                 .extracting("status")
                 .isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("getPostDetail - 차단 관계면 예외, 조회수 기록 안 함")
+    void getPostDetail_blocked() {
+        Long postId = 100L;
+        given(auth.getPrincipal()).willReturn(new CustomUserDetails(1L, "alice", List.of()));
+        PostDetailResponse detail = mock(PostDetailResponse.class);
+        given(postRepository.findPostDetailView(1L, postId)).willReturn(new PostDetailView(2L, detail));
+        given(blockGraph.isHidden(1L, 2L)).willReturn(true);
+
+        assertThatThrownBy(() -> service.getPostDetail(postId))
+                .isInstanceOf(BusinessException.class);
+        then(viewCountBuffer).shouldHaveNoInteractions();
+    }
+
     // ─────────────────────────────────────────────────────────────────────────────
     // Write Post
     // ─────────────────────────────────────────────────────────────────────────────
@@ -291,6 +330,7 @@ class PostServiceImplTest {
         then(imageRepository).should()
                 .deleteByImageTypeAndRelatedId(ImageType.POST, postId);
         then(postRepository).should().delete(post);
+        then(searchOutboxRepository).should().save(any(SearchOutbox.class));
     }
 
     @Test
@@ -0,0 +1,100 @@
+package core.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.post.controller.PostSearchController;
+import core.global.search.service.PostSearchService;
+import core.global.search.service.PostSearchSuggestService;
+import core.global.search.service.RecentSearchRedisService;
+import core.global.service.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CompletableFuture를 돌려주는 엔드포인트가 실제 보안 필터 체인(SecurityConfig + JwtTokenFilter)을 거쳐
+ * ASYNC 재디스패치까지 200으로 끝나는지 확인합니다.
+ */
+@SpringJUnitWebConfig(SecurityConfigAsyncDispatchTest.TestConfig.class)
+@TestPropertySource(properties = {
+        "jwt.secret=YXN5bmMtZGlzcGF0Y2gtdGVzdC1zZWNyZXQtYXN5bmMtZGlzcGF0Y2gtdGVzdC1zZWNyZXQtYXN5bmMtZGlzcGF0Y2gtdGVzdC1zZWNyZXQt",
+        "jwt.access-expiration=60",
+        "jwt.refresh-expiration=1440"
+})
+class SecurityConfigAsyncDispatchTest {
+
+    @Configuration
+    @EnableWebMvc
+    @Import({SecurityConfig.class, JwtTokenFilter.class, JwtTokenProvider.class,
+            JwtAuthenticationEntryPoint.class, PostSearchController.class})
+    static class TestConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @MockitoBean private RedisService redisService;
+    @MockitoBean private PostSearchService searchService;
+    @MockitoBean private PostSearchSuggestService suggestService;
+    @MockitoBean private RecentSearchRedisService recentService;
+
+    @Autowired private WebApplicationContext context;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("suggest - JWT로 시작한 비동기 요청은 ASYNC 재디스패치에서도 200")
+    void suggest_asyncDispatchWithJwt() throws Exception {
+        String token = jwtTokenProvider.createAccessToken(1L, "alice@example.com");
+        given(suggestService.suggest("sp", 1L))
+                .willReturn(CompletableFuture.completedFuture(List.of("spring", "spring boot")));
+
+        MvcResult started = mockMvc.perform(get("/api/v1/search/1/suggest")
+                        .param("q", "sp")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("spring"))
+                .andExpect(jsonPath("$[1]").value("spring boot"));
+    }
+
+    @Test
+    @DisplayName("suggest - JWT 없으면 최초 요청에서 401, 비동기 처리 시작 안 함")
+    void suggest_withoutJwt_unauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/search/1/suggest").param("q", "sp"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(request().asyncNotStarted());
+    }
+}
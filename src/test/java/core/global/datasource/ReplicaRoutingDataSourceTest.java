@@ -0,0 +1,135 @@
+package core.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock private DataSource primary;
+    @Mock private DataSource replicaA;
+    @Mock private DataSource replicaB;
+    @Mock private Connection primaryConn;
+    @Mock private Connection replicaConn;
+
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void readOnlyTx() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션/트랜잭션 밖 → primary")
+    void writeGoesToPrimary() throws SQLException {
+        var ds = new ReplicaRoutingDataSource(primary,
+                List.of(new ReplicaRoutingDataSource.Replica("a", replicaA, 1, () -> 0)), tracker);
+        given(primary.getConnection()).willReturn(primaryConn);
+
+        assertThat(ds.getConnection()).isSameAs(primaryConn);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThat(ds.getConnection()).isSameAs(primaryConn);
+        verify(replicaA, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("readOnly → 가중 최소 연결 복제본")
+    void readOnlyPicksLeastLoadedWeightedReplica() {
+        // a: (4+1)/1 = 5, b: (6+1)/2 = 3.5 → b
+        var a = new ReplicaRoutingDataSource.Replica("a", replicaA, 1, () -> 4);
+        var b = new ReplicaRoutingDataSource.Replica("b", replicaB, 2, () -> 6);
+        var ds = new ReplicaRoutingDataSource(primary, List.of(a, b), tracker);
+        readOnlyTx();
+
+        assertThat(ds.route()).isSameAs(b);
+    }
+
+    @Test
+    @DisplayName("복제본 커넥션 실패 → primary로 넘기고 해당 복제본은 제외")
+    void failoverToPrimaryWhenReplicaFails() throws SQLException {
+        var a = new ReplicaRoutingDataSource.Replica("a", replicaA, 1, () -> 0);
+        var ds = new ReplicaRoutingDataSource(primary, List.of(a), tracker);
+        given(replicaA.getConnection()).willThrow(new SQLException("connection refused"));
+        given(primary.getConnection()).willReturn(primaryConn);
+        readOnlyTx();
+
+        assertThat(ds.getConnection()).isSameAs(primaryConn);
+        assertThat(a.isHealthy()).isFalse();
+        assertThat(ds.route()).isNull();
+    }
+
+    @Test
+    @DisplayName("상태 점검이 통과하면 복제본이 다시 라우팅 대상에 복귀")
+    void healthCheckRestoresReplica() throws SQLException {
+        var a = new ReplicaRoutingDataSource.Replica("a", replicaA, 1, () -> 0);
+        var ds = new ReplicaRoutingDataSource(primary, List.of(a), tracker);
+        given(replicaA.getConnection())
+                .willThrow(new SQLException("down"))
+                .willReturn(replicaConn);
+        given(replicaConn.isValid(2)).willReturn(true);
+
+        ds.checkReplicas(0);
+        assertThat(a.isHealthy()).isFalse();
+
+        ds.checkReplicas(0);
+        assertThat(a.isHealthy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 사용자의 읽기는 stickiness 윈도우 동안 primary")
+    void readYourWrites() {
+        var a = new ReplicaRoutingDataSource.Replica("a", replicaA, 1, () -> 0);
+        var ds = new ReplicaRoutingDataSource(primary, List.of(a), tracker);
+        TransactionExecution write = mock(TransactionExecution.class);
+        given(write.isReadOnly()).willReturn(false);
+        given(write.isNewTransaction()).willReturn(true);
+
+        login("alice@example.com");
+        tracker.afterCommit(write, null);
+        readOnlyTx();
+        assertThat(ds.route()).isNull();
+
+        login("bob@example.com");
+        assertThat(ds.route()).isSameAs(a);
+    }
+}
@@ -0,0 +1,70 @@
+package core.global.search.dto;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("다음 페이지 커서 - PIT id, search_after 값과 종류, 기준 시각이 그대로 돌아옴")
+    void roundTrip_keepsPitAndSortValues() {
+        // [_score, createdAt, _shard_doc]
+        SearchCursor cursor = new SearchCursor("pit-abc",
+                List.of(FieldValue.of(3.25), FieldValue.of(1_754_000_000_000L), FieldValue.of(42L)),
+                1_754_000_123_456L);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertThat(decoded.pitId()).isEqualTo("pit-abc");
+        assertThat(decoded.now()).isEqualTo(1_754_000_123_456L);
+        assertThat(decoded.searchAfter()).hasSize(3);
+        assertThat(decoded.searchAfter().get(0).isDouble()).isTrue();
+        assertThat(decoded.searchAfter().get(0).doubleValue()).isEqualTo(3.25);
+        assertThat(decoded.searchAfter().get(1).isLong()).isTrue();
+        assertThat(decoded.searchAfter().get(1).longValue()).isEqualTo(1_754_000_000_000L);
+        // JSON에서 int 범위로 읽혀도 long으로 되돌려 _shard_doc 정렬 타입과 맞춤
+        assertThat(decoded.searchAfter().get(2).isLong()).isTrue();
+        assertThat(decoded.searchAfter().get(2).longValue()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("정수로 떨어지는 점수도 double로 유지")
+    void roundTrip_wholeScoreStaysDouble() {
+        SearchCursor cursor = new SearchCursor("pit", List.of(FieldValue.of(2.0), FieldValue.of(1L)), 0L);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertThat(decoded.searchAfter().get(0).isDouble()).isTrue();
+        assertThat(decoded.searchAfter().get(0).doubleValue()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)")
+    void decode_blank_isFirstPage() {
+        assertThat(SearchCursor.decode(null)).isNull();
+        assertThat(SearchCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("깨진 커서나 search_after가 빠진 커서는 INVALID_CURSOR")
+    void decode_invalid() {
+        assertThatThrownBy(() -> SearchCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+
+        String noSortValues = new SearchCursor("pit", List.of(), 0L).encode();
+        assertThatThrownBy(() -> SearchCursor.decode(noSortValues))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
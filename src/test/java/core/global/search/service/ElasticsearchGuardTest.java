@@ -0,0 +1,85 @@
+package core.global.search.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElasticsearchGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ElasticsearchGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // search 타임아웃 50ms, suggest는 타임아웃이 끼어들지 않게 5초. 둘 다 동시 실행 1
+        guard = new ElasticsearchGuard(meterRegistry, 50, 5_000, 1, 1, 50f, 1_000, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    @DisplayName("타임아웃 - 대체 결과를 돌려주고 등록된 원래 ES future를 cancel")
+    void timeout_fallsBackAndCancelsRawRequest() {
+        CompletableFuture<List<String>> raw = new CompletableFuture<>();
+
+        List<String> result = guard.call(ElasticsearchGuard.Op.SEARCH,
+                requests -> requests.track(raw).thenApply(r -> r),
+                () -> List.of("postgres"));
+
+        assertThat(result).containsExactly("postgres");
+        assertThat(raw).isCancelled();
+        assertThat(meterRegistry.counter("search.fallback", "op", "search", "reason", "timeout").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("타임아웃 뒤 bulkhead 자리가 반납되어 다음 호출이 ES로 감")
+    void timeout_releasesBulkheadAfterCancel() {
+        guard.call(ElasticsearchGuard.Op.SEARCH,
+                requests -> requests.track(new CompletableFuture<String>()),
+                () -> "fallback");
+
+        AtomicInteger esCalls = new AtomicInteger();
+        String second = guard.call(ElasticsearchGuard.Op.SEARCH,
+                requests -> {
+                    esCalls.incrementAndGet();
+                    return requests.track(CompletableFuture.completedFuture("es"));
+                },
+                () -> "fallback");
+
+        assertThat(esCalls).hasValue(1);
+        assertThat(second).isEqualTo("es");
+    }
+
+    @Test
+    @DisplayName("실제 요청이 끝나기 전에는 bulkhead 자리를 잡고 있음")
+    void bulkheadHeldUntilRawRequestFinishes() throws Exception {
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        CompletableFuture<String> first = guard.callAsync(ElasticsearchGuard.Op.SUGGEST,
+                requests -> requests.track(slow),
+                () -> "fallback");
+
+        String second = guard.call(ElasticsearchGuard.Op.SUGGEST,
+                requests -> requests.track(CompletableFuture.completedFuture("es")),
+                () -> "fallback");
+        assertThat(second).isEqualTo("fallback");
+        assertThat(meterRegistry.counter("search.fallback", "op", "suggest", "reason", "bulkhead").count())
+                .isEqualTo(1.0);
+
+        slow.complete("es");
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("es");
+    }
+}
@@ -0,0 +1,109 @@
+package core.global.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import core.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchSuggestServiceTest {
+
+    @Mock private ElasticsearchAsyncClient es;
+    @Mock private ElasticsearchGuard guard;
+    @Mock private PostRepository postRepository;
+
+    private PostSearchSuggestService service;
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void setUp() {
+        service = new PostSearchSuggestService(es, guard, postRepository, 30, 100);
+
+        // completion 결과 없음 → ASYT 히트 하나
+        SearchResponse<Map> resp = mock(SearchResponse.class);
+        HitsMetadata<Map> hits = mock(HitsMetadata.class);
+        Hit<Map> hit = mock(Hit.class);
+        given(hit.source()).willReturn(Map.of("content", "hello from es"));
+        given(hits.hits()).willReturn(List.of(hit));
+        given(resp.hits()).willReturn(hits);
+        given(es.search(any(Function.class), eq(Map.class))).willReturn(CompletableFuture.completedFuture(resp));
+    }
+
+    /** 가드가 닫혀 있을 때처럼 ES 호출을 그대로 실행 */
+    @SuppressWarnings("unchecked")
+    private void givenGuardPasses() {
+        willAnswer(inv -> {
+            Function<ElasticsearchGuard.InFlight, CompletableFuture<List<String>>> call = inv.getArgument(1);
+            return call.apply(new ElasticsearchGuard.InFlight());
+        }).given(guard).callAsync(eq(ElasticsearchGuard.Op.SUGGEST), any(), any());
+    }
+
+    /** 서킷이 열렸을 때처럼 바로 대체 경로 */
+    @SuppressWarnings("unchecked")
+    private void givenGuardOpen() {
+        willAnswer(inv -> {
+            Supplier<List<String>> fallback = inv.getArgument(2);
+            return CompletableFuture.completedFuture(fallback.get());
+        }).given(guard).callAsync(eq(ElasticsearchGuard.Op.SUGGEST), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 적중은 가드(서킷/bulkhead)를 거치지 않음 - 실제 ES 호출 한 번만 기록")
+    void cacheHits_doNotTouchGuard() {
+        givenGuardPasses();
+
+        assertThat(service.suggest("Hel", null).join()).containsExactly("hello from es");
+        for (int i = 0; i < 10; i++) {
+            assertThat(service.suggest(" hel ", null).join()).containsExactly("hello from es");
+        }
+
+        then(guard).should(times(1)).callAsync(eq(ElasticsearchGuard.Op.SUGGEST), any(), any());
+    }
+
+    @Test
+    @DisplayName("서킷이 열려도 캐시에 있는 접두어는 캐시에서, 없는 접두어만 Postgres 대체")
+    void breakerOpen_servesCachedPrefixes() {
+        givenGuardPasses();
+        service.suggest("hel", null).join();
+
+        givenGuardOpen();
+        given(postRepository.suggestByPrefix("wor%", null, 5)).willReturn(List.of("world from pg"));
+
+        assertThat(service.suggest("hel", null).join()).containsExactly("hello from es");
+        assertThat(service.suggest("wor", null).join()).containsExactly("world from pg");
+        then(postRepository).should(times(1)).suggestByPrefix(any(), any(), eq(5));
+    }
+
+    @Test
+    @DisplayName("대체 경로 결과는 캐시에 남지 않아, 서킷이 닫히면 다시 ES로 감")
+    void fallbackResult_isNotCached() {
+        givenGuardOpen();
+        given(postRepository.suggestByPrefix("hel%", null, 5)).willReturn(List.of("hello from pg"));
+        assertThat(service.suggest("hel", null).join()).containsExactly("hello from pg");
+
+        givenGuardPasses();
+        assertThat(service.suggest("hel", null).join()).containsExactly("hello from es");
+    }
+}
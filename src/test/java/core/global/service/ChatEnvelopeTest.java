@@ -0,0 +1,47 @@
+package core.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatEnvelopeTest {
+
+    @Test
+    @DisplayName("encode한 봉투에서 roomId와 본문을 그대로 꺼냄")
+    void roundTrip() {
+        byte[] body = "{\"content\":\"안녕\"}".getBytes(StandardCharsets.UTF_8);
+
+        byte[] envelope = ChatEnvelope.encode(Long.MAX_VALUE, body);
+
+        assertThat(envelope).hasSize(1 + Long.BYTES + body.length);
+        assertThat(ChatEnvelope.roomId(envelope)).isEqualTo(Long.MAX_VALUE);
+        assertThat(ChatEnvelope.body(envelope)).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("본문이 비어 있어도 헤더만으로 디코딩")
+    void emptyBody() {
+        byte[] envelope = ChatEnvelope.encode(42L, new byte[0]);
+
+        assertThat(ChatEnvelope.roomId(envelope)).isEqualTo(42L);
+        assertThat(ChatEnvelope.body(envelope)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("헤더보다 짧거나 버전이 다르면 거부")
+    void rejectsUnknownEnvelope() {
+        byte[] otherVersion = ChatEnvelope.encode(1L, new byte[]{1, 2});
+        otherVersion[0] = 2;
+
+        assertThatThrownBy(() -> ChatEnvelope.roomId(new byte[Long.BYTES]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChatEnvelope.body(otherVersion))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChatEnvelope.roomId(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
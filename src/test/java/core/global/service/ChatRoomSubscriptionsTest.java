@@ -0,0 +1,131 @@
+package core.global.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSubscriptionsTest {
+
+    @Mock private RedisMessageListenerContainer container;
+    @Mock private RedisChatSubscriber subscriber;
+
+    private ChatRoomSubscriptions subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        subscriptions = new ChatRoomSubscriptions(container, subscriber);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) accessor.setSubscriptionId(subscriptionId);
+        if (destination != null) accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, long roomId) {
+        subscriptions.onSubscribe(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, sessionId, subscriptionId, "/topic/room." + roomId)));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        subscriptions.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                frame(StompCommand.UNSUBSCRIBE, sessionId, subscriptionId, null)));
+    }
+
+    private void disconnect(String sessionId) {
+        subscriptions.onDisconnect(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, sessionId, null, null), sessionId, CloseStatus.NORMAL));
+    }
+
+    private static Topic channel(long roomId) {
+        return argThat(t -> t != null && t.getTopic().equals(RedisChatPublisher.channelOf(roomId)));
+    }
+
+    @Test
+    @DisplayName("같은 방 구독이 여러 개여도 채널 구독은 0→1에서 한 번, 1→0에서 한 번")
+    void channelFollowsFirstAndLastSubscriber() {
+        subscribe("s1", "sub-1", 10L);
+        subscribe("s2", "sub-1", 10L);
+
+        assertThat(subscriptions.localSubscribers(10L)).isEqualTo(2);
+        then(container).should(times(1)).addMessageListener(eq(subscriber), channel(10L));
+
+        unsubscribe("s1", "sub-1");
+        then(container).should(never()).removeMessageListener(any(), any(Topic.class));
+
+        unsubscribe("s2", "sub-1");
+        assertThat(subscriptions.localSubscribers(10L)).isZero();
+        then(container).should(times(1)).removeMessageListener(eq(subscriber), channel(10L));
+    }
+
+    @Test
+    @DisplayName("같은 구독 id로 다시 SUBSCRIBE - 같은 방이면 채널 유지, 다른 방이면 이전 방 구독을 옮김")
+    void resubscribeWithSameId() {
+        subscribe("s1", "sub-1", 10L);
+        subscribe("s1", "sub-1", 10L);
+
+        assertThat(subscriptions.localSubscribers(10L)).isEqualTo(1);
+        then(container).should(times(1)).addMessageListener(eq(subscriber), channel(10L));
+        then(container).should(never()).removeMessageListener(any(), any(Topic.class));
+
+        subscribe("s1", "sub-1", 20L);
+
+        assertThat(subscriptions.localSubscribers(10L)).isZero();
+        assertThat(subscriptions.localSubscribers(20L)).isEqualTo(1);
+        then(container).should().removeMessageListener(eq(subscriber), channel(10L));
+        then(container).should().addMessageListener(eq(subscriber), channel(20L));
+    }
+
+    @Test
+    @DisplayName("DISCONNECT - 세션의 남은 구독을 모두 내리고, 다른 세션이 보는 방은 유지")
+    void disconnectReleasesSessionSubscriptions() {
+        subscribe("s1", "sub-1", 10L);
+        subscribe("s1", "sub-2", 20L);
+        subscribe("s2", "sub-1", 20L);
+
+        disconnect("s1");
+
+        assertThat(subscriptions.localSubscribers(10L)).isZero();
+        assertThat(subscriptions.localSubscribers(20L)).isEqualTo(1);
+        then(container).should().removeMessageListener(eq(subscriber), channel(10L));
+        then(container).should(never()).removeMessageListener(eq(subscriber), channel(20L));
+
+        // 이미 정리된 세션의 UNSUBSCRIBE/DISCONNECT는 무시
+        unsubscribe("s1", "sub-2");
+        disconnect("s1");
+        assertThat(subscriptions.localSubscribers(20L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채팅방이 아닌 destination은 세지 않음")
+    void ignoresNonRoomDestinations() {
+        subscriptions.onSubscribe(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/user/queue/notifications")));
+
+        then(container).shouldHaveNoInteractions();
+    }
+}